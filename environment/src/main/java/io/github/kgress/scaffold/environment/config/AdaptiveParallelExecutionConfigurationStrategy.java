@@ -0,0 +1,383 @@
+package io.github.kgress.scaffold.environment.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * A {@link ParallelExecutionConfigurationStrategy} that sizes the JUnit worker pool to what the configured run type can
+ * actually run at once, instead of a fixed parallelism that either queues sessions or leaves capacity unused.
+ * <p>
+ * 1. {@link RunType#GRID}, or a local run with a remote url, uses the number of free slots the Grid reports. Both the
+ * Grid 3 hub api and the Grid 4 status endpoint are supported. 2. {@link RunType#SAUCE} and
+ * {@link RunType#SAUCE_MOBILE_EMULATOR} use the virtual machines left in the team's, or else the organization's,
+ * concurrency limit, as reported by the Sauce concurrency api. 3. A local browser run uses the smaller of the
+ * processor count and the number of browsers that fit in the physical memory left after the memory reserve.
+ * 4. Anything else, or a Grid or Sauce api that can't be reached, uses the default parallelism.
+ * <p>
+ * The result is always at least 1 and at most the max parallelism. The Grid and Sauce are asked with a short timeout,
+ * see {@link #STATUS_TIMEOUT_IN_SECONDS}, so an unreachable endpoint doesn't hold up the start of the run.
+ * <p>
+ * The strategy runs before the Spring context starts, so the desired capabilities are read from the JUnit
+ * configuration parameters, which include system properties, and then from the properties files of the active Spring
+ * profiles. It's enabled in junit-platform.properties with:
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=io.github.kgress.scaffold.environment.config.AdaptiveParallelExecutionConfigurationStrategy
+ * </pre>
+ */
+@Slf4j
+public class AdaptiveParallelExecutionConfigurationStrategy implements ParallelExecutionConfigurationStrategy {
+
+    static final String CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.scaffold.";
+    static final String DEFAULT_PARALLELISM = CONFIG_PREFIX + "default-parallelism";
+    static final String MAX_PARALLELISM = CONFIG_PREFIX + "max-parallelism";
+    static final String MEMORY_PER_BROWSER_IN_MB = CONFIG_PREFIX + "memory-per-browser-in-mb";
+    static final String MEMORY_RESERVE_IN_MB = CONFIG_PREFIX + "memory-reserve-in-mb";
+    static final String STATUS_TIMEOUT_IN_SECONDS = CONFIG_PREFIX + "status-timeout-in-seconds";
+    static final String SAUCE_API_URL = CONFIG_PREFIX + "sauce-api-url";
+    static final String RUN_TYPE = "desired-capabilities.run-type";
+    static final String REMOTE_URL = "desired-capabilities.remote-url";
+    static final String SAUCE_USER_NAME = "desired-capabilities.sauce.user-name";
+    static final String SAUCE_ACCESS_KEY = "desired-capabilities.sauce.access-key";
+    static final String SAUCE_URL = "desired-capabilities.sauce.url";
+
+    private static final int FALLBACK_PARALLELISM = 20;
+    private static final long FALLBACK_MEMORY_PER_BROWSER_IN_MB = 512L;
+    private static final long FALLBACK_MEMORY_RESERVE_IN_MB = 2048L;
+    private static final int FALLBACK_STATUS_TIMEOUT_IN_SECONDS = 5;
+    private static final String FALLBACK_SAUCE_API_URL = "https://api.us-west-1.saucelabs.com";
+    private static final String SAUCE_CONCURRENCY_URI = "/rest/v1.2/users/%s/concurrency";
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final String GRID_3_HUB_URI = "/grid/api/hub";
+    private static final String GRID_4_STATUS_URI = "/status";
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        var defaultParallelism = getInt(configurationParameters, DEFAULT_PARALLELISM).orElse(FALLBACK_PARALLELISM);
+        var maxParallelism = getInt(configurationParameters, MAX_PARALLELISM).orElse(Integer.MAX_VALUE);
+        var parallelism = Math.max(1, Math.min(maxParallelism,
+                computeParallelism(configurationParameters, defaultParallelism)));
+        log.debug(String.format("Running tests with a parallelism of %d", parallelism));
+        return new AdaptiveParallelExecutionConfiguration(parallelism);
+    }
+
+    private int computeParallelism(ConfigurationParameters configurationParameters, int defaultParallelism) {
+        var runType = getDesiredCapability(configurationParameters, RUN_TYPE)
+                .flatMap(AdaptiveParallelExecutionConfigurationStrategy::toRunType);
+        var remoteUrl = getDesiredCapability(configurationParameters, REMOTE_URL);
+        if (runType.isEmpty()) {
+            return defaultParallelism;
+        }
+        var statusRestTemplate = createStatusRestTemplate(configurationParameters);
+
+        switch (runType.get()) {
+            case GRID:
+                return remoteUrl.flatMap(url -> getFreeGridSlots(statusRestTemplate, url)).orElse(defaultParallelism);
+            case SAUCE:
+            case SAUCE_MOBILE_EMULATOR:
+                return getFreeSauceConcurrency(configurationParameters, statusRestTemplate).orElse(defaultParallelism);
+            case LOCAL:
+            case HEADLESS:
+                if (remoteUrl.isPresent()) {
+                    return remoteUrl.flatMap(url -> getFreeGridSlots(statusRestTemplate, url))
+                            .orElse(defaultParallelism);
+                }
+                return getLocalBrowserCapacity(configurationParameters);
+            case AWS_LAMBDA_LOCAL:
+                return getLocalBrowserCapacity(configurationParameters);
+            default:
+                return defaultParallelism;
+        }
+    }
+
+    /**
+     * Local browsers are bound by both processors and memory, so the capacity is the smaller of the processor count
+     * and the number of browsers that fit in the total physical memory, less the memory reserved for the operating
+     * system and the test JVM. Free memory isn't used since it leaves out the page cache the operating system gives
+     * back on demand, which is most of the usable memory on a typical CI host.
+     *
+     * @param configurationParameters the JUnit configuration parameters
+     * @return the number of local browsers that can run at once
+     */
+    int getLocalBrowserCapacity(ConfigurationParameters configurationParameters) {
+        var processors = Runtime.getRuntime().availableProcessors();
+        var totalMemory = getTotalPhysicalMemorySize();
+        if (totalMemory.isEmpty()) {
+            return processors;
+        }
+        var memoryPerBrowser = getInt(configurationParameters, MEMORY_PER_BROWSER_IN_MB)
+                .map(Integer::longValue)
+                .orElse(FALLBACK_MEMORY_PER_BROWSER_IN_MB) * 1024 * 1024;
+        var memoryReserve = getInt(configurationParameters, MEMORY_RESERVE_IN_MB)
+                .map(Integer::longValue)
+                .orElse(FALLBACK_MEMORY_RESERVE_IN_MB) * 1024 * 1024;
+        var browserMemory = Math.max(0, totalMemory.get() - memoryReserve);
+        var browsersInMemory = (int) Math.min(Integer.MAX_VALUE, browserMemory / Math.max(1, memoryPerBrowser));
+        return Math.max(1, Math.min(processors, browsersInMemory));
+    }
+
+    /**
+     * @return the total physical memory of the host in bytes, or empty if the JVM doesn't report it
+     */
+    protected Optional<Long> getTotalPhysicalMemorySize() {
+        var operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+        if (!(operatingSystem instanceof com.sun.management.OperatingSystemMXBean)) {
+            return Optional.empty();
+        }
+        return Optional.of(((com.sun.management.OperatingSystemMXBean) operatingSystem).getTotalPhysicalMemorySize());
+    }
+
+    /**
+     * Creates the rest template the Grid and Sauce are asked with. The strategy runs before the first test starts,
+     * so the timeouts are much shorter than the ones of the
+     * {@link SeleniumGridServiceConfiguration#seleniumGridRestTemplate} rest template.
+     *
+     * @param configurationParameters the JUnit configuration parameters
+     * @return as {@link RestTemplate}
+     */
+    private RestTemplate createStatusRestTemplate(ConfigurationParameters configurationParameters) {
+        var timeoutInMillis = (int) TimeUnit.SECONDS.toMillis(getInt(configurationParameters, STATUS_TIMEOUT_IN_SECONDS)
+                .orElse(FALLBACK_STATUS_TIMEOUT_IN_SECONDS));
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutInMillis);
+        requestFactory.setReadTimeout(timeoutInMillis);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Asks the Grid how many free slots it has, first through the Grid 3 hub api and then through the Grid 4 status
+     * endpoint. A Grid with no free slots reports 0, which is clamped to a parallelism of 1.
+     *
+     * @param statusRestTemplate the rest template to ask the Grid with
+     * @param remoteUrl          the remote url of the Grid
+     * @return the number of free slots, or empty if the Grid couldn't be reached
+     */
+    Optional<Integer> getFreeGridSlots(RestTemplate statusRestTemplate, String remoteUrl) {
+        String gridRoot;
+        try {
+            var url = new URL(remoteUrl);
+            gridRoot = url.getProtocol() + "://" + url.getAuthority();
+        } catch (MalformedURLException e) {
+            log.debug("Unable to parse the remote url for the Grid status: " + remoteUrl);
+            return Optional.empty();
+        }
+        var freeSlots = getStatus(statusRestTemplate, gridRoot + GRID_3_HUB_URI)
+                .map(hub -> hub.path("slotCounts").path("free"))
+                .filter(JsonNode::isInt)
+                .map(JsonNode::asInt)
+                .or(() -> getStatus(statusRestTemplate, gridRoot + GRID_4_STATUS_URI).map(this::countFreeGrid4Slots));
+        freeSlots.ifPresent(slots -> log.debug(String.format("Grid at %s reports %d free slots", gridRoot, slots)));
+        return freeSlots;
+    }
+
+    /**
+     * Asks Sauce how many more virtual machines the user can start, from the concurrency limit of the user's team, or
+     * of the organization when the user isn't in a team.
+     *
+     * @param configurationParameters the JUnit configuration parameters
+     * @param statusRestTemplate      the rest template to ask Sauce with
+     * @return the number of virtual machines left, or empty if the credentials aren't set or Sauce couldn't be reached
+     */
+    Optional<Integer> getFreeSauceConcurrency(ConfigurationParameters configurationParameters,
+                                              RestTemplate statusRestTemplate) {
+        var userName = getDesiredCapability(configurationParameters, SAUCE_USER_NAME);
+        var accessKey = getDesiredCapability(configurationParameters, SAUCE_ACCESS_KEY);
+        if (userName.isEmpty() || accessKey.isEmpty()) {
+            return Optional.empty();
+        }
+        var sauceApiUrl = configurationParameters.get(SAUCE_API_URL)
+                .or(() -> getDesiredCapability(configurationParameters, SAUCE_URL).flatMap(this::toSauceApiUrl))
+                .orElse(FALLBACK_SAUCE_API_URL);
+        var requestHeaders = new HttpHeaders();
+        requestHeaders.setBasicAuth(userName.get(), accessKey.get());
+        var concurrencyUrl = sauceApiUrl + String.format(SAUCE_CONCURRENCY_URI, userName.get());
+        JsonNode concurrency;
+        try {
+            concurrency = statusRestTemplate.exchange(concurrencyUrl, HttpMethod.GET,
+                    new HttpEntity<>(requestHeaders), JsonNode.class).getBody();
+        } catch (Exception e) {
+            log.debug(String.format("Unable to read the Sauce concurrency from %s: %s", sauceApiUrl, e.getMessage()));
+            return Optional.empty();
+        }
+        if (concurrency == null) {
+            return Optional.empty();
+        }
+        var limits = concurrency.path("concurrency").path("team");
+        if (!limits.path("allowed").path("vms").isInt()) {
+            limits = concurrency.path("concurrency").path("organization");
+        }
+        var allowed = limits.path("allowed").path("vms");
+        if (!allowed.isInt()) {
+            return Optional.empty();
+        }
+        var freeVirtualMachines = Math.max(0, allowed.asInt() - limits.path("current").path("vms").asInt(0));
+        log.debug(String.format("Sauce reports %d of %d virtual machines free", freeVirtualMachines, allowed.asInt()));
+        return Optional.of(freeVirtualMachines);
+    }
+
+    /**
+     * Sauce serves its api from the same data center as its sessions, like api.eu-central-1.saucelabs.com for
+     * ondemand.eu-central-1.saucelabs.com.
+     *
+     * @param sauceUrl the url Sauce sessions are started against
+     * @return the url of the Sauce api for the same data center, or empty for the default data center
+     */
+    private Optional<String> toSauceApiUrl(String sauceUrl) {
+        try {
+            var host = new URL(sauceUrl).getHost();
+            if (!host.startsWith("ondemand.") || host.equals("ondemand.saucelabs.com")) {
+                return Optional.empty();
+            }
+            return Optional.of("https://api." + host.substring("ondemand.".length()));
+        } catch (MalformedURLException e) {
+            log.debug("Unable to parse the Sauce url for the Sauce api: " + sauceUrl);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<JsonNode> getStatus(RestTemplate statusRestTemplate, String url) {
+        try {
+            return Optional.ofNullable(statusRestTemplate.getForObject(url, JsonNode.class));
+        } catch (Exception e) {
+            log.debug(String.format("Unable to read the Grid status from %s: %s", url, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private int countFreeGrid4Slots(JsonNode status) {
+        var freeSlots = 0;
+        for (var node : status.path("value").path("nodes")) {
+            if (!"UP".equals(node.path("availability").asText())) {
+                continue;
+            }
+            for (var slot : node.path("slots")) {
+                if (slot.path("session").isNull() || slot.path("session").isMissingNode()) {
+                    freeSlots++;
+                }
+            }
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Reads a desired capability from the JUnit configuration parameters, falling back to the properties files of the
+     * active Spring profiles and then the default application properties.
+     *
+     * @param configurationParameters the JUnit configuration parameters
+     * @param key                     the property key
+     * @return the value as an {@link Optional}
+     */
+    Optional<String> getDesiredCapability(ConfigurationParameters configurationParameters, String key) {
+        return configurationParameters.get(key)
+                .or(() -> getPropertyFileNames().stream()
+                        .map(fileName -> readProperty(fileName, key))
+                        .flatMap(Optional::stream)
+                        .findFirst())
+                .map(String::trim)
+                .filter(value -> !value.isEmpty());
+    }
+
+    private List<String> getPropertyFileNames() {
+        var activeProfiles = Optional.ofNullable(System.getProperty("spring.profiles.active"))
+                .or(() -> Optional.ofNullable(System.getenv("SPRING_PROFILES_ACTIVE")))
+                .orElse("");
+        var fileNames = new ArrayList<String>();
+        // Later profiles take precedence in Spring, so they're checked first
+        var profiles = Arrays.asList(activeProfiles.split(","));
+        for (var index = profiles.size() - 1; index >= 0; index--) {
+            var profile = profiles.get(index).trim();
+            if (!profile.isEmpty()) {
+                fileNames.add("config/application-" + profile + ".properties");
+                fileNames.add("application-" + profile + ".properties");
+            }
+        }
+        fileNames.add("config/application.properties");
+        fileNames.add("application.properties");
+        return fileNames;
+    }
+
+    private Optional<String> readProperty(String fileName, String key) {
+        var classLoader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(getClass().getClassLoader());
+        try (var inputStream = classLoader.getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                return Optional.empty();
+            }
+            var properties = new Properties();
+            properties.load(inputStream);
+            return Optional.ofNullable(properties.getProperty(key));
+        } catch (IOException e) {
+            log.debug(String.format("Unable to read %s: %s", fileName, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<RunType> toRunType(String runType) {
+        try {
+            return Optional.of(RunType.valueOf(runType.toUpperCase(Locale.ROOT).replace('-', '_')));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Integer> getInt(ConfigurationParameters configurationParameters, String key) {
+        return configurationParameters.get(key, Integer::valueOf);
+    }
+
+    /**
+     * Mirrors the pool settings of JUnit's fixed strategy for the computed parallelism.
+     */
+    private static class AdaptiveParallelExecutionConfiguration implements ParallelExecutionConfiguration {
+
+        private final int parallelism;
+
+        private AdaptiveParallelExecutionConfiguration(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism + 256;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return KEEP_ALIVE_SECONDS;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package io.github.kgress.scaffold.environment.config;
 
 import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import io.github.kgress.scaffold.models.enums.desktop.ClickSettleStrategy;
 import io.github.kgress.scaffold.models.enums.desktop.Platform;
 import io.github.kgress.scaffold.models.enums.desktop.RunType;
 import io.github.kgress.scaffold.models.enums.desktop.ScreenResolution;
 import io.github.kgress.scaffold.models.enums.mobileemulator.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -36,6 +41,13 @@ public class DesiredCapabilitiesConfigurationProperties {
   @NonNull
   private RunType runType;
 
+  /**
+   * Optional. The name of the custom run type to use when the run type is {@link RunType#CUSTOM}.
+   * The name selects the DriverProvider that builds the browser options and starts the sessions
+   * for the run.
+   */
+  private String customRunType;
+
   /**
    * Required. The operating system to be used as defined by the enum {@link Platform}. Linux,
    * MacOS, Windows, Opera, etc. Since test execution can be either desktop or mobile, setting this
@@ -101,6 +113,97 @@ public class DesiredCapabilitiesConfigurationProperties {
    */
   private boolean useProxy = false;
 
+  /**
+   * Optional. Starts the browser for a worker thread's next test in the background while its
+   * current test is running, so the next test doesn't wait on the browser to start. Defaults to
+   * false. This has no effect when the {@link SessionPool} is enabled.
+   * <p>
+   * Each worker can have two live sessions while this is enabled, so account for that when sizing
+   * your parallelism against a Grid or Sauce concurrency limit. The next test isn't known when its
+   * session starts, so warmed sessions are started without the Sauce job name and the Grid uuid.
+   * The Sauce job is renamed to the test that claims the session.
+   */
+  private boolean preWarmSessions = false;
+
+  /**
+   * Optional. Starts one driver process per browser, like chromedriver, for the lifetime of the
+   * test run and starts every local session against it instead of spawning a new driver process
+   * per test. Defaults to false. This only applies to Chrome and Firefox for a {@link
+   * RunType#LOCAL} or {@link RunType#HEADLESS} run without a remote url.
+   */
+  private boolean sharedDriverService = false;
+
+  /**
+   * Optional. Reuses the raw element an element found the last time it was interacted with,
+   * instead of waiting for it to be displayed and finding it again on every interaction. The
+   * element is found again after a navigation, a click, typing, or a window or frame switch, and
+   * when the reused element has gone stale. Defaults to false.
+   */
+  private boolean cacheElementHandles = false;
+
+  /**
+   * Optional. Finds, checks, scrolls to and clicks on an element in a single script call when
+   * clicking, instead of a wait, a scroll and a find before the click. A click that lands on
+   * another element, like an overlay, is tried once more before it fails. An element that isn't
+   * displayed yet falls back to the regular click, which waits for it. Defaults to false.
+   * <p>
+   * The click is dispatched by the page's script instead of the driver's native input, so pages
+   * that rely on mouse down or mouse up events should leave this disabled.
+   */
+  private boolean fastClick = false;
+
+  /**
+   * Optional. Verifies the elements of a page together with a single script call each time the
+   * wait polls, instead of a wait and a find per element, when every element's locators can be
+   * used in the browser. Defaults to false.
+   * <p>
+   * The script decides whether an element is displayed from its size and computed style, which
+   * can differ from the driver's own visibility check for elements that are clipped or covered.
+   */
+  private boolean batchPageVerification = false;
+
+  /**
+   * Optional. How to wait for the page to settle after clicking on an element, as defined by the
+   * enum {@link ClickSettleStrategy}. Defaults to {@link ClickSettleStrategy#PAGE_LOAD}. This can
+   * be overridden for a single element with its own click settle strategy.
+   */
+  private ClickSettleStrategy clickSettleStrategy = ClickSettleStrategy.PAGE_LOAD;
+
+  /**
+   * Optional. How long the page must have no fetch or XHR requests in flight and no short timers
+   * pending before it's considered idle, when waiting for the network to be idle. Defaults to 500.
+   */
+  private Long networkIdleQuietPeriodInMillis = 500L;
+
+  /**
+   * Optional. Waits for elements to be displayed, to contain text, or to have or not have a class
+   * inside the browser, where a single script watches the page for changes, instead of checking
+   * the condition from the test every 500 milliseconds. The wait returns as soon as the page
+   * changes to meet the condition. Defaults to false.
+   * <p>
+   * Elements whose locators can't be used in the browser, like link text, are still waited on by
+   * polling.
+   */
+  private boolean browserConditionWaits = false;
+
+  /**
+   * Optional. Records how long every wait took, how often it checked its condition, and whether
+   * it timed out, aggregated per test, condition and element locator. The report, sorted by the
+   * total time spent waiting, is logged when the JUnit test plan finishes. Defaults to false.
+   */
+  private boolean waitTelemetry = false;
+
+  /**
+   * Optional. A file the wait telemetry report is also written to when the test plan finishes, like
+   * target/wait-telemetry.txt. Defaults to null, which only logs the report.
+   */
+  private String waitTelemetryReportFile;
+
+  /**
+   * Creates a new {@link WaitPolling} for tuning how often waits check their condition.
+   */
+  private final WaitPolling waitPolling = new WaitPolling();
+
   /**
    * Creates a new {@link SauceAuthentication} in the event there are sauce options for the test
    * execution.
@@ -119,6 +222,28 @@ public class DesiredCapabilitiesConfigurationProperties {
    */
   private final AWSLambda awsLambda = new AWSLambda();
 
+  /**
+   * Creates a new {@link SessionPool} in the event browser sessions should be reused across tests
+   * instead of being started and quit for every test.
+   */
+  private final SessionPool sessionPool = new SessionPool();
+
+  /**
+   * Creates a new {@link SessionCreation} for tuning how remote sessions are started.
+   */
+  private final SessionCreation sessionCreation = new SessionCreation();
+
+  /**
+   * Creates a new {@link Teardown} for tuning how browsers are quit at the end of a test.
+   */
+  private final Teardown teardown = new Teardown();
+
+  /**
+   * Creates a new {@link RemoteHttpClient} for tuning the HTTP client remote sessions send their
+   * commands through.
+   */
+  private final RemoteHttpClient remoteHttpClient = new RemoteHttpClient();
+
   /**
    * SauceAuthentication configuration properties are used for setting Sauce credentials up in your
    * Spring profile.
@@ -270,4 +395,244 @@ public class DesiredCapabilitiesConfigurationProperties {
      */
     private String userDataDir;
   }
+
+  /**
+   * SessionPool configuration properties are used for leasing browser sessions to tests from a
+   * pool rather than starting a new browser for every test. A leased session is reset between tests
+   * (cookies and local and session storage of the visited origins, extra windows, and navigation
+   * to about:blank) and is only quit when it fails a health check, sits idle past {@link
+   * #idleTimeoutInSeconds}, or the JVM shuts down.
+   */
+  @Getter
+  @Setter
+  public static class SessionPool {
+
+    /**
+     * Optional. Enables the pooled session mode. Defaults to false, which keeps the one browser per
+     * test behavior.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The maximum number of live sessions in a pool. Defaults to 20 to match the default
+     * junit parallelism. Tests that cannot lease a session wait up to {@link
+     * #leaseTimeoutInSeconds} for one to be released.
+     */
+    private int maxSize = 20;
+
+    /**
+     * Optional. Overrides {@link #maxSize} for a specific {@link RunType}. For example,
+     * desired-capabilities.session-pool.max-size-by-run-type.sauce=10
+     */
+    private Map<RunType, Integer> maxSizeByRunType = new HashMap<>();
+
+    /**
+     * Optional. The amount of time an unused session can sit in the pool before it is quit.
+     * Defaults to five minutes.
+     */
+    private Long idleTimeoutInSeconds = 300L;
+
+    /**
+     * Optional. The amount of time a test will wait to lease a session when the pool is at its
+     * maximum size. Defaults to five minutes.
+     */
+    private Long leaseTimeoutInSeconds = 300L;
+  }
+
+  /**
+   * SessionCreation configuration properties are used for controlling how new sessions are started
+   * against a remote endpoint, like a Grid hub or Sauce.
+   */
+  @Getter
+  @Setter
+  public static class SessionCreation {
+
+    /**
+     * Optional. The maximum number of session creations that can be in flight against a single
+     * remote URL at once. Workers past this limit queue in the order they arrived. Defaults to 20
+     * to match the default junit parallelism.
+     */
+    private int maxInFlightPerEndpoint = 20;
+
+    /**
+     * Optional. The amount of time a worker will queue for a session creation slot before failing.
+     * Defaults to two minutes.
+     */
+    private Long admissionTimeoutInSeconds = 120L;
+
+    /**
+     * Optional. The number of times to try creating a session before failing the test. Only
+     * failures from the remote endpoint are retried. Defaults to 1, which means no retries.
+     */
+    private int maxAttempts = 1;
+
+    /**
+     * Optional. The backoff before the first retry. The backoff doubles with every retry, with half
+     * of it randomized so workers don't retry in lock step. Defaults to one second.
+     */
+    private Long initialBackoffInMillis = 1000L;
+
+    /**
+     * Optional. The most the backoff between retries can grow to. Defaults to thirty seconds.
+     */
+    private Long maxBackoffInMillis = 30000L;
+
+    /**
+     * Optional. The number of consecutive session creation failures against a remote URL that
+     * opens its circuit breaker. While the breaker is open, session creation fails fast instead of
+     * waiting on the endpoint. Defaults to 0, which disables the breaker.
+     */
+    private int circuitBreakerFailureThreshold = 0;
+
+    /**
+     * Optional. How long an open circuit breaker fails fast before letting a trial session creation
+     * through. Defaults to thirty seconds.
+     */
+    private Long circuitBreakerOpenDurationInSeconds = 30L;
+
+    /**
+     * Optional. The amount of time to wait on the Grid test session API, which looks up the node a
+     * new {@link RunType#GRID} session is running on. The lookup happens in the background and
+     * doesn't hold up the test. Defaults to thirty seconds.
+     */
+    private Long gridRegistrationTimeoutInSeconds = 30L;
+  }
+
+  /**
+   * Teardown configuration properties are used for controlling how browsers are quit at the end of
+   * a test.
+   */
+  @Getter
+  @Setter
+  public static class Teardown {
+
+    /**
+     * Optional. Quits the browser on a background executor so the test thread can start its next
+     * test right away. Defaults to false. If the quitter threads are busy and the queue is full,
+     * the browser is quit on the test thread instead. Queued quits are drained when the JVM shuts
+     * down.
+     */
+    private boolean asyncQuit = false;
+
+    /**
+     * Optional. The number of background threads quitting browsers. Defaults to 4.
+     */
+    private int quitterThreads = 4;
+
+    /**
+     * Optional. The number of quits that can wait for a quitter thread before the test thread has
+     * to quit the browser itself. Defaults to 40.
+     */
+    private int quitterQueueCapacity = 40;
+
+    /**
+     * Optional. The amount of time to wait for queued quits to finish when the JVM shuts down.
+     * Defaults to one minute.
+     */
+    private Long shutdownDrainTimeoutInSeconds = 60L;
+
+    /**
+     * Optional. Tracks every live browser and quits the ones that were abandoned, like when a
+     * teardown fails before the browser is closed. A browser is abandoned when the thread that
+     * started it has finished, or when it has been idle past the abandoned session idle timeout.
+     * Defaults to false.
+     */
+    private boolean reapAbandonedSessions = false;
+
+    /**
+     * Optional. The amount of time a browser can go without a command before it's considered
+     * abandoned. This should be longer than your slowest test. Every command to a remote browser
+     * counts, but a local browser only counts the commands sent through the WebDriverWrapper, not
+     * the ones sent to a raw WebElement the test kept. Defaults to thirty minutes.
+     */
+    private Long abandonedSessionIdleTimeoutInSeconds = 1800L;
+
+    /**
+     * Optional. How often to check for abandoned browsers. Defaults to one minute.
+     */
+    private Long reaperIntervalInSeconds = 60L;
+  }
+
+  /**
+   * WaitPolling configuration properties are used for controlling how long a wait sleeps between
+   * two checks of its condition. By default, waits check their condition every 500 milliseconds.
+   * The adaptive polling checks quickly at first, so conditions that are met right away are noticed
+   * sooner, and then less and less often, so long waits against a remote browser send fewer
+   * commands.
+   */
+  @Getter
+  @Setter
+  public static class WaitPolling {
+
+    /**
+     * Optional. Sleeps for each of the {@link #initialIntervalsInMillis} in turn, and then
+     * multiplies the last one by the {@link #backoffMultiplier} after every check, up to the {@link
+     * #ceilingInMillis}. Defaults to false, which checks every 500 milliseconds.
+     */
+    private boolean adaptive = false;
+
+    /**
+     * Optional. The intervals of the first checks when polling is adaptive. Defaults to 25, 50 and
+     * 100 milliseconds.
+     */
+    private List<Long> initialIntervalsInMillis = new ArrayList<>(List.of(25L, 50L, 100L));
+
+    /**
+     * Optional. The factor each interval past the initial ones grows by when polling is adaptive.
+     * Defaults to 2.
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Optional. The longest interval between two checks when polling is adaptive. Defaults to one
+     * second.
+     */
+    private Long ceilingInMillis = 1000L;
+  }
+
+  /**
+   * RemoteHttpClient configuration properties are used for sharing one pooled, keep-alive HTTP
+   * client between every remote session against the same remote URL, instead of each session
+   * creating its own client and connections.
+   */
+  @Getter
+  @Setter
+  public static class RemoteHttpClient {
+
+    /**
+     * Optional. Sends the commands of every remote session through a shared, pooled HTTP client per
+     * remote URL. Defaults to false, which lets Selenium create a client per session.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The maximum number of open connections in the pool of a single remote URL. Every
+     * remote URL has its own pool, so this isn't a cap across remote URLs. Defaults to 100.
+     */
+    private int maxTotalConnections = 100;
+
+    /**
+     * Optional. The maximum number of open connections to a single host and port in the pool of a
+     * remote URL. Defaults to 40.
+     */
+    private int maxConnectionsPerRoute = 40;
+
+    /**
+     * Optional. The amount of time a connection can sit unused before it's closed. Defaults to
+     * thirty seconds.
+     */
+    private Long idleTimeoutInSeconds = 30L;
+
+    /**
+     * Optional. The amount of time to wait for a connection to the remote URL. Defaults to two
+     * minutes, the same as Selenium's default.
+     */
+    private Long connectionTimeoutInSeconds = 120L;
+
+    /**
+     * Optional. The amount of time to wait for the response to a command. Defaults to three hours,
+     * the same as Selenium's default.
+     */
+    private Long readTimeoutInSeconds = 10800L;
+  }
 }
@@ -1,8 +1,13 @@
 package io.github.kgress.scaffold;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.github.kgress.scaffold.util.AutomationUtils;
 import lombok.Getter;
@@ -40,12 +45,40 @@ public class AutomationWait {
     @Getter
     private final WebDriverWrapper webDriverWrapper;
 
+    /**
+     * One reusable {@link WebDriverWait} per {@link WaitSpec}. A {@link WebDriverWait} isn't changed once it's
+     * configured, so waits from different threads can share it.
+     */
+    @Getter
+    private final Map<WaitSpec, WebDriverWait> waits = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link WaitSpec} of every wait that doesn't set a temp timeout. Waits with a temp timeout use a copy of
+     * it with their own timeout and never change it.
+     */
+    @Getter
+    private volatile WaitSpec defaultWaitSpec;
+
+    /**
+     * Waits on element conditions in the browser instead of polling them when browser condition waits are enabled
+     * on the {@link WebDriverWrapper}.
+     */
     @Getter
-    private final Map<Long, WebDriverWait> waits = new HashMap<>();
+    private final BrowserConditionWait browserConditionWait;
 
+    /**
+     * Records every wait when wait telemetry is enabled, see {@link WaitTelemetry}. Null when it's disabled.
+     */
+    @Getter
+    @Setter
+    private WaitTelemetry waitTelemetry;
+
+    /**
+     * The name of the test this automation wait's waits are recorded for.
+     */
     @Getter
     @Setter
-    private Long timeoutInSeconds;
+    private String telemetryTestName;
 
     /**
      *
@@ -54,7 +87,43 @@ public class AutomationWait {
      */
     public AutomationWait(WebDriverWrapper webDriverWrapper, Long timeoutInSeconds) {
         this.webDriverWrapper = webDriverWrapper;
-        this.timeoutInSeconds = timeoutInSeconds;
+        setTimeoutInSeconds(timeoutInSeconds);
+        this.browserConditionWait = new BrowserConditionWait(webDriverWrapper, this);
+    }
+
+    /**
+     * @return the default timeout of every wait that doesn't set a temp timeout
+     */
+    public Long getTimeoutInSeconds() {
+        return getDefaultWaitSpec().getTimeoutInSeconds();
+    }
+
+    /**
+     * Sets the default timeout of every wait that doesn't set a temp timeout.
+     *
+     * @param timeoutInSeconds      the timeout in seconds
+     */
+    public void setTimeoutInSeconds(Long timeoutInSeconds) {
+        this.defaultWaitSpec = defaultWaitSpec == null
+                ? WaitSpec.of(timeoutInSeconds)
+                : defaultWaitSpec.withTimeoutInSeconds(timeoutInSeconds);
+    }
+
+    /**
+     * @return the {@link PollingStrategy} of every wait that doesn't pass its own {@link WaitSpec}
+     */
+    public PollingStrategy getPollingStrategy() {
+        return getDefaultWaitSpec().getPollingStrategy();
+    }
+
+    /**
+     * Sets the {@link PollingStrategy} of every wait that doesn't pass its own {@link WaitSpec}. Defaults to
+     * {@link PollingStrategy#DEFAULT}, which polls every 500 milliseconds.
+     *
+     * @param pollingStrategy       the {@link PollingStrategy}
+     */
+    public void setPollingStrategy(PollingStrategy pollingStrategy) {
+        this.defaultWaitSpec = getDefaultWaitSpec().withPollingStrategy(pollingStrategy);
     }
 
     /**
@@ -74,27 +143,45 @@ public class AutomationWait {
      *
      * @param expectedCondition     the expected condition to wait for
      * @param <T>                   the type reference
-     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
-     *                              in the spring profile
+     * @param setTempTimeout        an option to wait for a timeout other than what's set in the spring profile. Only
+     *                              this wait uses it, the default timeout doesn't change
      * @return                      the custom wait condition as the Type Reference T
      */
     public <T> T waitForCustomCondition(ExpectedCondition<T> expectedCondition, Long setTempTimeout) {
-        T customCondition;
-        var previousTimeout = getTimeoutInSeconds();
+        var waitSpec = setTempTimeout != null
+                ? getDefaultWaitSpec().withTimeoutInSeconds(setTempTimeout)
+                : getDefaultWaitSpec();
+        return waitForCondition(expectedCondition, waitSpec);
+    }
 
-        try {
-            if (setTempTimeout != null) {
-                setTimeoutInSeconds(setTempTimeout);
-                customCondition = createWebDriverWait().until(expectedCondition);
-                setTimeoutInSeconds(previousTimeout);
-            } else {
-                customCondition = createWebDriverWait().until(expectedCondition);
-            }
-        } catch (TimeoutException e) {
-            setTimeoutInSeconds(previousTimeout);
-            throw e;
+    /**
+     * Waits for a custom condition with its own {@link WaitSpec}, for waits that need a different polling interval
+     * or have to ignore more exceptions than {@link #waitForCustomCondition(ExpectedCondition, Long)} does. The
+     * {@link WebDriverWait} for the spec is created once and reused.
+     *
+     * Example:
+     * <pre>{@code
+     *      waitForCondition(input -> element.isDisplayed(),
+     *              WaitSpec.of(5L).ignoring(StaleElementReferenceException.class));
+     * }
+     * </pre>
+     *
+     * @param expectedCondition     the expected condition to wait for
+     * @param waitSpec              the timeout, polling interval and ignored exceptions of the wait
+     * @param <T>                   the type reference
+     * @return                      the custom wait condition as the Type Reference T
+     */
+    public <T> T waitForCondition(ExpectedCondition<T> expectedCondition, WaitSpec waitSpec) {
+        var waitTelemetry = getWaitTelemetry();
+        if (waitTelemetry == null) {
+            return getWebDriverWait(waitSpec).until(expectedCondition);
         }
-        return customCondition;
+        var locator = findLocator(expectedCondition);
+        return recordLocatorWait(describe(expectedCondition), locator, waitSpec.getTimeoutInSeconds(), () ->
+                getWebDriverWait(waitSpec).until(input -> {
+                    waitTelemetry.countPoll();
+                    return expectedCondition.apply(input);
+                }));
     }
 
     /**
@@ -120,6 +207,93 @@ public class AutomationWait {
         return waitForCustomCondition(expectedCondition, null);
     }
 
+    /**
+     * Waits for a javascript predicate to return a truthy value. Instead of polling from the test like
+     * {@link #waitForCustomCondition(ExpectedCondition, Long)}, the predicate is polled inside the browser on every
+     * animation frame and the wait is a single command, see {@link BrowserConditionWait}. The predicate is the body
+     * of a function that can use the arguments passed in.
+     *
+     * Example:
+     * <pre>{@code
+     *      waitForScriptCondition("return document.querySelectorAll(arguments[0]).length > 2;",
+     *          List.of(".search-result"), 10L);
+     * }
+     * </pre>
+     *
+     * @param predicate             the body of the javascript predicate
+     * @param args                  the arguments of the predicate, as {@code arguments[0]} and so on
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the value the predicate returned
+     */
+    public Object waitForScriptCondition(String predicate, List<?> args, Long setTempTimeout) {
+        return recordWait("script condition", null, setTempTimeout, () ->
+                getBrowserConditionWait().waitForScriptCondition(predicate, args, setTempTimeout));
+    }
+
+    /**
+     * Waits for a javascript predicate to return a truthy value, polling it inside the browser. Does not set a temp
+     * wait time.
+     *
+     * Example:
+     * <pre>{@code
+     *      waitForScriptCondition("return !document.querySelector('.spinner');");
+     * }
+     * </pre>
+     *
+     * @param predicate             the body of the javascript predicate
+     * @param args                  the arguments of the predicate, as {@code arguments[0]} and so on
+     * @return                      the value the predicate returned
+     */
+    public Object waitForScriptCondition(String predicate, Object... args) {
+        return waitForScriptCondition(predicate, Arrays.asList(args), null);
+    }
+
+    /**
+     * Waits until the page has had no fetch or XHR requests in flight and no short timers pending for a quiet
+     * period. Unlike {@link #waitUntilPageIsLoaded()}, this also waits on the requests a single page application
+     * makes after the document has loaded. The page is instrumented the first time this is called on it, so call
+     * {@link #instrumentNetwork()} before the action that starts the requests to make sure they're seen.
+     *
+     * @param quietPeriodInMillis   how long the page must be quiet
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      as {@link Boolean}
+     */
+    public Boolean waitForNetworkIdle(Long quietPeriodInMillis, Long setTempTimeout) {
+        return recordWait("network idle", null, setTempTimeout, () ->
+                getBrowserConditionWait().waitForNetworkIdle(quietPeriodInMillis, setTempTimeout));
+    }
+
+    /**
+     * Waits until the page has had no fetch or XHR requests in flight and no short timers pending for a quiet
+     * period. Does not set a temp wait time.
+     *
+     * @param quietPeriodInMillis   how long the page must be quiet
+     * @return                      as {@link Boolean}
+     */
+    public Boolean waitForNetworkIdle(Long quietPeriodInMillis) {
+        return waitForNetworkIdle(quietPeriodInMillis, null);
+    }
+
+    /**
+     * Waits until the page has had no fetch or XHR requests in flight and no short timers pending for the quiet
+     * period set in the spring profile. Does not set a temp wait time.
+     *
+     * @return                      as {@link Boolean}
+     */
+    public Boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(getWebDriverWrapper().getNetworkIdleQuietPeriodInMillis());
+    }
+
+    /**
+     * Instruments the page to count its in-flight requests and pending short timers for
+     * {@link #waitForNetworkIdle(Long, Long)}. The instrumentation is installed once per document.
+     */
+    public void instrumentNetwork() {
+        getBrowserConditionWait().instrumentNetwork();
+    }
+
     /**
      * Waits for an element's text box to contain a specific string.
      *
@@ -130,7 +304,13 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForTextToContain(BaseWebElement element, String text, Long setTempTimeout) {
-        return waitForCustomCondition(input -> element.getText().contains(text), setTempTimeout);
+        return recordWait("text contains", element, setTempTimeout, () -> {
+            var start = System.nanoTime();
+            return tryInBrowser(element, () ->
+                    getBrowserConditionWait().waitForTextToContain(element, text, setTempTimeout))
+                    .orElseGet(() -> waitForCustomCondition(input -> element.getText().contains(text),
+                            getRemainingTimeout(setTempTimeout, start)));
+        });
     }
 
     /**
@@ -153,7 +333,13 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitUntilElementIsEnabled(BaseWebElement element, Long setTempTimeout) {
-        return waitForCustomCondition(input -> element.isEnabled(), setTempTimeout);
+        return recordWait("enabled", element, setTempTimeout, () -> {
+            var start = System.nanoTime();
+            return tryInBrowser(element, () ->
+                    getBrowserConditionWait().waitUntilElementIsEnabled(element, setTempTimeout))
+                    .orElseGet(() -> waitForCustomCondition(input -> element.isEnabled(),
+                            getRemainingTimeout(setTempTimeout, start)));
+        });
     }
 
     /**
@@ -177,9 +363,14 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.attributeContains(
-                element.getRawWebElement(), CLASS_ATTRIBUTE, className), setTempTimeout
-        );
+        return recordWait("has class", element, setTempTimeout, () -> {
+            var start = System.nanoTime();
+            return tryInBrowser(element, () ->
+                    getBrowserConditionWait().waitForElementToHaveClass(element, className, setTempTimeout))
+                    .orElseGet(() -> waitForCustomCondition(ExpectedConditions.attributeContains(
+                            element.getRawWebElement(), CLASS_ATTRIBUTE, className),
+                            getRemainingTimeout(setTempTimeout, start)));
+        });
     }
 
     /**
@@ -205,9 +396,14 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToNotHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.not(
-                        ExpectedConditions.attributeContains(element.getRawWebElement(), CLASS_ATTRIBUTE, className)
-                ), setTempTimeout);
+        return recordWait("not has class", element, setTempTimeout, () -> {
+            var start = System.nanoTime();
+            return tryInBrowser(element, () ->
+                    getBrowserConditionWait().waitForElementToNotHaveClass(element, className, setTempTimeout))
+                    .orElseGet(() -> waitForCustomCondition(ExpectedConditions.not(ExpectedConditions
+                            .attributeContains(element.getRawWebElement(), CLASS_ATTRIBUTE, className)),
+                            getRemainingTimeout(setTempTimeout, start)));
+        });
     }
 
     /**
@@ -236,7 +432,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitUntilPageIsLoaded(Long setTempTimeout) {
-        return waitUntilPageIsLoaded(setTempTimeout, 0);
+        return recordWait("page loaded", null, setTempTimeout, () -> waitUntilPageIsLoaded(setTempTimeout, 0));
     }
 
     /**
@@ -294,8 +490,14 @@ public class AutomationWait {
      * @return                      as a {@link WebElement}
      */
     public WebElement waitUntilDisplayed(BaseWebElement element, Long setTempTimeout) {
-        return getWebDriverWrapper().getAutomationWait().waitForCustomCondition(
-                ExpectedConditions.visibilityOfElementLocated(element.getBy()), setTempTimeout);
+        return recordWait("displayed", element, setTempTimeout, () -> {
+            var start = System.nanoTime();
+            return tryInBrowser(element, () ->
+                    getBrowserConditionWait().waitUntilDisplayed(element, setTempTimeout))
+                    .orElseGet(() -> waitForCustomCondition(
+                            ExpectedConditions.visibilityOfElementLocated(element.getBy()),
+                            getRemainingTimeout(setTempTimeout, start)));
+        });
     }
 
     /**
@@ -310,15 +512,161 @@ public class AutomationWait {
     }
 
     /**
-     * Creates a new {@link WebDriverWait} using the defined timeout in seconds
+     * Whether an element condition should be waited on in the browser with the {@link BrowserConditionWait}.
+     *
+     * @param element               the {@link BaseWebElement} we are waiting on
+     * @return                      as {@link Boolean}
+     */
+    private boolean isBrowserConditionWaitUsable(BaseWebElement element) {
+        return getWebDriverWrapper().isBrowserConditionWaitEnabled() && BrowserConditionWait.canWaitFor(element);
+    }
+
+    /**
+     * Runs a wait in the browser when browser condition waits can be used for the element. A browser condition wait
+     * that times out is thrown as is. One that fails with anything else, like when the page unloads while the script
+     * is waiting, is logged and left for the caller to poll instead.
+     *
+     * @param element               the {@link BaseWebElement} we're waiting on
+     * @param browserWait           runs the wait in the browser
+     * @param <T>                   the type reference
+     * @return                      the result of the browser wait, or empty when the caller should poll
+     */
+    private <T> Optional<T> tryInBrowser(BaseWebElement element, Supplier<T> browserWait) {
+        if (!isBrowserConditionWaitUsable(element)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(browserWait.get());
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            logBrowserConditionWaitFallback(element, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The timeout left for a polling wait that takes over from an interrupted browser condition wait, so the two
+     * together don't take longer than the wait's timeout.
      *
-     * @return the {@link WebDriverWait}
+     * @param setTempTimeout        the temp timeout of the wait, or null for the default timeout
+     * @param startNanos            when the wait started, from {@link System#nanoTime()}
+     * @return                      the remaining timeout in seconds, rounded up
+     * @throws TimeoutException     when the timeout has already passed
      */
-    private WebDriverWait createWebDriverWait() {
-        var timeoutInSeconds = getTimeoutInSeconds();
-        if (!waits.containsKey(timeoutInSeconds)) {
-            waits.put(timeoutInSeconds, new WebDriverWait(getWebDriverWrapper().getBaseWebDriver(), timeoutInSeconds));
+    private Long getRemainingTimeout(Long setTempTimeout, long startNanos) {
+        var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+        var remainingMillis = TimeUnit.SECONDS.toMillis(timeoutInSeconds)
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (remainingMillis <= 0) {
+            throw new TimeoutException(String.format(
+                    "Expected condition failed: the browser condition wait was interrupted and the timeout of %s "
+                            + "second(s) passed before it could be polled", timeoutInSeconds));
         }
-        return waits.get(timeoutInSeconds);
+        return (remainingMillis + 999) / 1000;
+    }
+
+    /**
+     * A browser condition wait fails with something other than a timeout when the page unloads while the script is
+     * waiting, like after a navigation. The wait then starts over by polling.
+     *
+     * @param element               the {@link BaseWebElement} we were waiting on
+     * @param e                     the {@link WebDriverException} the browser condition wait failed with
+     */
+    private void logBrowserConditionWaitFallback(BaseWebElement element, WebDriverException e) {
+        log.debug(String.format("Browser condition wait for element [%s] was interrupted, polling instead: %s",
+                element.getBy(), e.getMessage()));
+    }
+
+    /**
+     * Runs a wait, and records it to the {@link WaitTelemetry} when wait telemetry is enabled.
+     *
+     * @param condition             a description of the condition being waited for
+     * @param element               the element being waited on, or null
+     * @param setTempTimeout        the temp timeout of the wait, or null for the default timeout
+     * @param wait                  the wait to run
+     * @param <T>                   the type reference
+     * @return                      the result of the wait
+     */
+    private <T> T recordWait(String condition, BaseWebElement element, Long setTempTimeout, Supplier<T> wait) {
+        var locator = element != null ? String.valueOf(element.getBy()) : null;
+        return recordLocatorWait(condition, locator, setTempTimeout, wait);
+    }
+
+    /**
+     * Runs a wait, and records it to the {@link WaitTelemetry} when wait telemetry is enabled.
+     *
+     * @param condition             a description of the condition being waited for
+     * @param locator               the locator of the element being waited on, or null
+     * @param setTempTimeout        the temp timeout of the wait, or null for the default timeout
+     * @param wait                  the wait to run
+     * @param <T>                   the type reference
+     * @return                      the result of the wait
+     */
+    private <T> T recordLocatorWait(String condition, String locator, Long setTempTimeout, Supplier<T> wait) {
+        var waitTelemetry = getWaitTelemetry();
+        if (waitTelemetry == null) {
+            return wait.get();
+        }
+        var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+        return waitTelemetry.record(getTelemetryTestName(), condition, locator, timeoutInSeconds, wait);
+    }
+
+    /**
+     * Describes a custom condition for the {@link WaitTelemetry}. The description of a condition from
+     * {@link ExpectedConditions} is the name of the method that created it, like "visibilityOfElementLocated",
+     * since its {@link Object#toString()} includes the locator and sometimes the current value of the element,
+     * which would record every locator and value as a different condition. A lambda doesn't describe itself.
+     *
+     * @param expectedCondition     the expected condition
+     * @return                      the description as {@link String}
+     */
+    private static String describe(ExpectedCondition<?> expectedCondition) {
+        var conditionClass = expectedCondition.getClass();
+        if (conditionClass.getEnclosingClass() == ExpectedConditions.class
+                && conditionClass.getEnclosingMethod() != null) {
+            return conditionClass.getEnclosingMethod().getName();
+        }
+        if (conditionClass.isSynthetic() || conditionClass.isAnonymousClass()) {
+            return "custom condition";
+        }
+        return conditionClass.getSimpleName();
+    }
+
+    /**
+     * Finds the locator of a custom condition for the {@link WaitTelemetry}. The conditions from
+     * {@link ExpectedConditions} keep the {@link By} they were created with in a field, a lambda doesn't have one.
+     *
+     * @param expectedCondition     the expected condition
+     * @return                      the locator as {@link String}, or null when the condition doesn't have one
+     */
+    private static String findLocator(ExpectedCondition<?> expectedCondition) {
+        for (var field : expectedCondition.getClass().getDeclaredFields()) {
+            if (!By.class.isAssignableFrom(field.getType())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                return String.valueOf(field.get(expectedCondition));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the {@link WebDriverWait} for a {@link WaitSpec}, creating it the first time the spec is used
+     *
+     * @param waitSpec              the {@link WaitSpec} of the wait
+     * @return                      the {@link WebDriverWait}
+     */
+    private WebDriverWait getWebDriverWait(WaitSpec waitSpec) {
+        return waits.computeIfAbsent(waitSpec, spec -> {
+            var webDriverWait = new PollingWebDriverWait(getWebDriverWrapper().getBaseWebDriver(),
+                    spec.getTimeoutInSeconds(), spec.getPollingStrategy());
+            webDriverWait.ignoreAll(spec.getIgnoredExceptions());
+            return webDriverWait;
+        });
     }
 }
@@ -1,13 +1,14 @@
 package io.github.kgress.scaffold;
 
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.exception.ComponentException;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
-import io.github.kgress.scaffold.util.AutomationUtils;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
@@ -223,27 +224,28 @@ public class BaseComponent {
         .forEach(index -> {
           try {
             /*
-             Get the CSS selector for the element in the list. This selector will become the new
+             Get the locator for the element in the list. This locator will become the new
              parent locator.
              */
-            var elementBy = listOfElements.get(index).getBy();
+            var elementLocator = listOfElements.get(index).getLocator();
 
             /*
             Check to see if the parentBy actually exists in this case. If there are any elements
             that have been constructed with a parent in mind, we want to make sure this parent
-            isn't a xpath locator, along with the current elementBy.
+            isn't a xpath locator, along with the current element locator.
              */
-            var elementParentBy = listOfElements.get(index).getParentBy();
+            var elementParentLocator = listOfElements.get(index).getParentLocator();
 
             /*
-             Check to make sure the By locator for the parent is a type of CSS selector, where
-             type is anything other than XPATH. Then, get the underlying locator as string.
+             Check to make sure the locator for the parent is a type of CSS selector, where
+             type is anything other than XPATH. Then, convert it to a CSS selector.
              */
-            if (elementBy instanceof By.ByXPath || elementParentBy instanceof By.ByXPath) {
+            if (elementLocator.isXPath()
+                || (elementParentLocator != null && elementParentLocator.isXPath())) {
               throw new ComponentException("Scaffold currently cannot build component lists using "
                   + "XPATH. Please use By locators that are a type of Css selector.");
             }
-            var underlyingSelector = AutomationUtils.getUnderlyingLocatorByString(elementBy);
+            var parentLocator = elementLocator.toCss();
 
             /*
              Create a new instance of the component passed in by the caller. The class
@@ -258,7 +260,7 @@ public class BaseComponent {
              additional fields, such as Strings (e.g. if Strings are being used as
              locators).
              */
-            convertFieldsWithNewLocator(componentInstance, underlyingSelector);
+            convertFieldsWithNewLocator(componentInstance, parentLocator);
 
             /*
              After the fields have been converted on the new instance of the component,
@@ -279,12 +281,12 @@ public class BaseComponent {
    * technically modified for every field, but always set back to private. Afterwards, combines
    * the parent and child together.
    *
-   * @param componentInstance  the instance of the {@link BaseComponent}
-   * @param fullParentSelector the parent selector being used as the prefix
-   * @param <T>                the type reference of {@link BaseComponent}
+   * @param componentInstance the instance of the {@link BaseComponent}
+   * @param parentLocator     the parent {@link Locator} being used as the prefix
+   * @param <T>               the type reference of {@link BaseComponent}
    */
   private <T extends BaseComponent> void convertFieldsWithNewLocator(T componentInstance,
-      String fullParentSelector) {
+      Locator parentLocator) {
     var classFields = componentInstance.getClass().getDeclaredFields();
 
     Arrays.stream(classFields).forEach(field -> {
@@ -292,7 +294,7 @@ public class BaseComponent {
         field.setAccessible(true);
         if (field.get(componentInstance) instanceof BaseWebElement) {
           convertField(componentInstance, (BaseWebElement) field.get(componentInstance), field,
-              fullParentSelector);
+              parentLocator);
         } else {
           log.debug(String.format(
               "Scaffold detected the field [%s] during component list building that "
@@ -309,29 +311,78 @@ public class BaseComponent {
 
   /**
    * Converts a {@link Field}'s {@link By} locator from a {@link BaseComponent} class. Takes a full
-   * parent selector and converted element to combine it into a fully qualified parent + child
+   * parent locator and converted element to combine it into a fully qualified parent + child
    * {@link By} locator.
    *
-   * @param componentInstance  the instance of the {@link BaseComponent}
-   * @param convertedElement   the converted {@link BaseWebElement}
-   * @param field              the {@link Field} we are converting
-   * @param fullParentSelector the fully qualified parent selector
-   * @param <T>                the type reference {@link BaseComponent}
-   * @param <X>                the type referece {@link BaseWebElement}
+   * @param componentInstance the instance of the {@link BaseComponent}
+   * @param convertedElement  the converted {@link BaseWebElement}
+   * @param field             the {@link Field} we are converting
+   * @param parentLocator     the fully qualified parent {@link Locator}
+   * @param <T>               the type reference {@link BaseComponent}
+   * @param <X>               the type referece {@link BaseWebElement}
    */
   private <T extends BaseComponent, X extends BaseWebElement> void convertField(T componentInstance,
-      X convertedElement, Field field, String fullParentSelector)
+      X convertedElement, Field field, Locator parentLocator)
       throws IllegalAccessException, NoSuchMethodException, InvocationTargetException,
       InstantiationException {
-    var convertedElementUnderlyingLocator = AutomationUtils.getUnderlyingLocatorByString(
-        convertedElement.getBy());
-    var newByLocator = By.cssSelector(
-        String.format("%s %s", fullParentSelector, convertedElementUnderlyingLocator));
+    var convertedElementLocator = convertedElement.getLocator();
+    if (convertedElementLocator.isXPath()) {
+      throw new ComponentException("Scaffold currently cannot build component lists using "
+          + "XPATH. Please use By locators that are a type of Css selector.");
+    }
+    var newByLocator = parentLocator.descendant(convertedElementLocator).toBy();
     var constructor = convertedElement.getClass().getConstructor(By.class);
     var newElement = constructor.newInstance(newByLocator);
     field.set(componentInstance, newElement);
   }
 
+  /**
+   * Finds the elements and reads their presence, visibility, text, tag name, rectangle, and enabled
+   * and selected state in a single script call, instead of a wait, a find and a command per element
+   * and property. Unlike interacting with the elements, this does not wait for them to be
+   * displayed.
+   * <p>
+   * Example scenario:
+   * <pre>{@code
+   *    var states = queryElements(getEmailInput(), getPasswordInput(), getLoginButton());
+   *    var isLoginButtonEnabled = states.get(getLoginButton())
+   *        .map(ElementSnapshot::isEnabled)
+   *        .orElse(false);
+   * }
+   * </pre>
+   *
+   * @param elements the elements to find
+   * @return the state of each element as an {@link Optional} of {@link ElementSnapshot}, which is
+   * empty when the element isn't on the page
+   * @see BatchElementQuery
+   */
+  protected Map<BaseWebElement, Optional<ElementSnapshot>> queryElements(BaseWebElement... elements) {
+    return queryElements(Arrays.asList(elements));
+  }
+
+  /**
+   * Finds the elements and reads their state in a single script call. See {@link
+   * #queryElements(BaseWebElement...)}.
+   *
+   * @param elements the elements to find
+   * @return the state of each element as an {@link Optional} of {@link ElementSnapshot}
+   */
+  protected Map<BaseWebElement, Optional<ElementSnapshot>> queryElements(
+      List<? extends BaseWebElement> elements) {
+    return new BatchElementQuery(getJavascriptExecutor()).query(elements);
+  }
+
+  /**
+   * Whether {@link BasePage#verifyIsOnPage(BaseWebElement...)} checks its elements together in a
+   * single script call, as set with {@link
+   * DesiredCapabilitiesConfigurationProperties#isBatchPageVerification()}.
+   *
+   * @return true if pages verify their elements in a single script call
+   */
+  protected boolean isBatchPageVerificationEnabled() {
+    return getWebDriverWrapper().isBatchPageVerificationEnabled();
+  }
+
   /**
    * Gets the Selenium based {@link Actions} object for the current thread. This is currently not
    * strongly typed and should be added in a future update.
@@ -1,6 +1,10 @@
 package io.github.kgress.scaffold;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.openqa.selenium.TimeoutException;
 
@@ -47,6 +51,10 @@ public class BasePage extends BaseComponent {
    * elements as parameters. Don't use elements from headers or a logo that might appear across
    * every page on your website.
    *
+   * When batch page verification is enabled and every element can be found from its locators in
+   * the browser, see {@link BatchElementQuery}, all the elements are checked together with a single
+   * script call each time the wait polls, instead of a wait and a find per element.
+   *
    * @param element the element(s) that will be checked if displayed
    * @return the {@link Boolean} value to determine if the page is correctly loaded
    */
@@ -64,7 +72,10 @@ public class BasePage extends BaseComponent {
 
     // Wait until the page is loaded then look for the elements
     var isPageLoaded = getAutomationWait().waitUntilPageIsLoaded();
-    if (isPageLoaded) {
+    if (isPageLoaded && isBatchPageVerificationEnabled()
+        && listOfElements.stream().allMatch(BatchElementQuery::isFoundInBrowser)) {
+      verifyElementsDisplayed(listOfElements);
+    } else if (isPageLoaded) {
       listOfElements.forEach(elementOnPage -> {
         if (!elementOnPage.isDisplayed()) {
           throw new TimeoutException(
@@ -79,4 +90,33 @@ public class BasePage extends BaseComponent {
     }
     return true;
   }
+
+  /**
+   * Waits until every element is displayed, checking all of them with one {@link
+   * #queryElements(List)} call per poll.
+   *
+   * @param elements the elements that should be displayed
+   */
+  private void verifyElementsDisplayed(List<BaseWebElement> elements) {
+    var lastStates = new AtomicReference<Map<BaseWebElement, Optional<ElementSnapshot>>>();
+    try {
+      getAutomationWait().waitForCustomCondition(page -> {
+        lastStates.set(queryElements(elements));
+        return lastStates.get().values().stream().allMatch(BasePage::isDisplayed);
+      });
+    } catch (TimeoutException e) {
+      var elementNotDisplayed = elements.stream()
+          .filter(elementOnPage -> lastStates.get() == null
+              || !isDisplayed(lastStates.get().get(elementOnPage)))
+          .findFirst()
+          .orElse(elements.get(0));
+      throw new TimeoutException(
+          String.format("Page verification failed. Could not find the element " +
+              "%s for the intended page: %s", elementNotDisplayed, getClass().getSimpleName()), e);
+    }
+  }
+
+  private static boolean isDisplayed(Optional<ElementSnapshot> state) {
+    return state != null && state.map(ElementSnapshot::isDisplayed).orElse(false);
+  }
 }
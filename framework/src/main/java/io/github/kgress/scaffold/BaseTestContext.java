@@ -140,6 +140,7 @@ public class BaseTestContext {
             webDriverContext
                     .webDriverManager(null)
                     .setTestName(null);
+            webDriverContext.setGridSessionResponse(null);
             log.debug("Context existed and removed.");
         }
     }
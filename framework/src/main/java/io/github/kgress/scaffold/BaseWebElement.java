@@ -18,7 +18,9 @@ import io.github.kgress.scaffold.webelements.StaticTextWebElement;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Date;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.AccessLevel;
@@ -27,6 +29,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
@@ -100,6 +103,65 @@ import org.openqa.selenium.logging.LogEntry;
 @Slf4j
 public abstract class BaseWebElement {
 
+  private static final String SIBLING_INDEXES_SCRIPT =
+      "var elements = arguments[0];"
+          + "var siblings = elements[0].parentNode.getElementsByTagName(elements[0].tagName);"
+          + "var matches = new Set(elements);"
+          + "var indexes = [];"
+          + "for (var i = 0; i < siblings.length; i++) {"
+          + "  if (matches.has(siblings[i])) { indexes.push(i); }"
+          + "}"
+          + "return indexes;";
+
+  private static final String SNAPSHOT_SCRIPT = ElementSnapshot.SNAPSHOT_FUNCTION
+      + "return snapshot(arguments[0], arguments[1], arguments[2]);";
+
+  /**
+   * Finds the element from its locators and reads its state. Returns null when the element isn't on
+   * the page.
+   */
+  private static final String FIND_AND_SNAPSHOT_SCRIPT = ElementSnapshot.SNAPSHOT_FUNCTION
+      + BatchElementQuery.FIND_FUNCTION
+      + "var query = arguments[0];"
+      + "var root = query.parentUsing ? find(document, query.parentUsing, query.parentValue)"
+      + "    : document;"
+      + "var element = root ? find(root, query.using, query.value) : null;"
+      + "return element ? snapshot(element, arguments[1], arguments[2]) : null;";
+
+  /**
+   * Finds the element from its locators, checks it's displayed, scrolls it into view, checks it
+   * would receive a click at its center, and clicks it. Instruments the page for a network idle
+   * wait before the click when {@code arguments[1]} is true. Returns one of the click result
+   * constants below.
+   */
+  private static final String CLICK_SCRIPT = BatchElementQuery.FIND_FUNCTION
+      + BrowserConditionWait.INSTRUMENT_NETWORK_FUNCTION
+      + "var query = arguments[0];"
+      + "var root = query.parentUsing ? find(document, query.parentUsing, query.parentValue)"
+      + "    : document;"
+      + "var element = root ? find(root, query.using, query.value) : null;"
+      + "if (!element) { return 'not found'; }"
+      + "var style = window.getComputedStyle(element);"
+      + "if (element.getClientRects().length === 0 || style.visibility === 'hidden'"
+      + "    || style.visibility === 'collapse') { return 'not displayed'; }"
+      + "element.scrollIntoView({block: 'nearest', inline: 'nearest'});"
+      + "var rect = element.getBoundingClientRect();"
+      + "var target = document.elementFromPoint(rect.left + rect.width / 2,"
+      + "    rect.top + rect.height / 2);"
+      + "if (target && target !== element && !element.contains(target)) { return 'intercepted'; }"
+      + "if (arguments[1]) { instrumentNetwork(); }"
+      + "element.click();"
+      + "return 'clicked';";
+  private static final String CLICK_RESULT_CLICKED = "clicked";
+  private static final String CLICK_RESULT_INTERCEPTED = "intercepted";
+  private static final int CLICK_SCRIPT_ATTEMPTS = 2;
+
+  /**
+   * How long to wait before clicking again after a click was intercepted, so an overlay that's
+   * fading or sliding out has a few animation frames to get out of the way.
+   */
+  private static final long CLICK_RETRY_DELAY_IN_MILLIS = 100L;
+
   @Getter
   private boolean isHidden = false;
 
@@ -127,16 +189,43 @@ public abstract class BaseWebElement {
   protected WebElement baseElement;
 
   /**
-   * Gets the {@link WebElementWait} for the current {@link BaseWebElement} being interacted with.
+   * Whether the element was created with one of the deprecated {@link WebElement} constructors.
+   *
+   * @return true if the element has a {@link #baseElement}
+   */
+  boolean hasBaseElement() {
+    return baseElement != null;
+  }
+
+  /**
+   * The {@link WebElementWait} for this element. It's created the first time it's needed instead of
+   * when the element is constructed, since page objects can declare many elements that are never
+   * interacted with. See {@link #getWebElementWait()}.
    */
-  @Getter
   private WebElementWait webElementWait;
 
+  /**
+   * The raw {@link WebElement} found the last time this element was interacted with, along with the
+   * {@link WebDriverWrapper} and DOM generation it was found in. Only used when the element handle
+   * cache is enabled. See {@link #getRawWebElement()}.
+   */
+  private WebElement cachedRawWebElement;
+  private WebDriverWrapper cachedWebDriverWrapper;
+  private long cachedDomGeneration;
+
+  /**
+   * The {@link Locator}s parsed from {@link #by} and {@link #parentBy}, along with the {@link By}
+   * they were parsed from. See {@link #getLocator()} and {@link #getParentLocator()}.
+   */
+  private Locator locator;
+  private By locatorSource;
+  private Locator parentLocator;
+  private By parentLocatorSource;
+
   /**
    * Create a new element using the supplied {@link By#cssSelector(String)}. This does not call or
    * invoke WebDriver in any way, nor does it try to find the element on a page. The element is used
-   * as a reference for use later. Once the element is set, we create a new {@link WebElementWait}
-   * for it.
+   * as a reference for use later. Its {@link WebElementWait} is created the first time it's needed.
    * <p>
    * The advantage of using this constructor is to reduce code count when using {@link
    * By#cssSelector(String)} to instantiate your elements. It is highly recommended using {@link
@@ -152,8 +241,8 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By#cssSelector(String)} and mark whether it is hidden.
    * This does not call or invoke WebDriver in any way, nor does it try to find the element on a page.
-   * The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * The element is used as a reference for use later.
+   * Its {@link WebElementWait} is created the first time it's needed.
    * <p>
    * The advantage of using this constructor is to reduce code count when using {@link
    * By#cssSelector(String)} to instantiate your elements. It is highly recommended using {@link
@@ -170,8 +259,7 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By} locator. This does not call or invoke
    * WebDriver in any way, nor does it try to find the element on a page. The element is used as a
-   * reference for use later. Once the element is set, we create a new {@link WebElementWait} for
-   * it.
+   * reference for use later. Its {@link WebElementWait} is created the first time it's needed.
    * <p>
    * Use this constructor when you'd like to locate an element with a {@link By} method different
    * from {@link By#cssSelector(String)}. We strongly recommend using {@link
@@ -186,8 +274,8 @@ public abstract class BaseWebElement {
   /**
    * Create a new element using the supplied {@link By} locator and mark whether it is hidden. This
    * does not call or invoke WebDriver in any way, nor does it try to find the element on a page. The
-   * element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * element is used as a reference for use later.
+   * Its {@link WebElementWait} is created the first time it's needed.
    * <p>
    * Use this constructor when you'd like to locate an element with a {@link By} method different
    * from {@link By#cssSelector(String)}. We strongly recommend using {@link
@@ -203,8 +291,8 @@ public abstract class BaseWebElement {
   /**
    * Creates a new element with a parent element using the supplied {@link By} locators for both
    * elements. Useful when you want a more verbose element definition in context of your websites'
-   * DOM. The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * DOM. The element is used as a reference for use later.
+   * Its {@link WebElementWait} is created the first time it's needed.
    * <p>
    * For example, perhaps you have a modal on your website:
    * <pre>{@code
@@ -234,8 +322,8 @@ public abstract class BaseWebElement {
   /**
    * Creates a new element with a parent element using the supplied {@link By} locators for both
    * elements. Useful when you want a more verbose element definition in context of your websites'
-   * DOM. The element is used as a reference for use later. Once the element is set, we create a new
-   * {@link WebElementWait} for it.
+   * DOM. The element is used as a reference for use later.
+   * Its {@link WebElementWait} is created the first time it's needed.
    *
    * @param by       the {@link By} locator to be used by this element
    * @param parentBy the {@link By} locator for the parent element
@@ -251,7 +339,6 @@ public abstract class BaseWebElement {
     this.by = by;
     this.parentBy = parentBy;
     this.isHidden = isHidden;
-    setWebElementWait();
   }
 
   /**
@@ -280,7 +367,6 @@ public abstract class BaseWebElement {
             + "does not have a WebElement.",
         webElement));
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -311,7 +397,6 @@ public abstract class BaseWebElement {
         webElement));
     this.setBy(by);
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -344,7 +429,6 @@ public abstract class BaseWebElement {
     this.setBy(by);
     this.setParentBy(parentBy);
     this.setBaseElement(webElement);
-    setWebElementWait();
   }
 
   /**
@@ -355,8 +439,7 @@ public abstract class BaseWebElement {
    */
   public boolean isEnabled() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.isEnabled();
+      return withRawWebElement(element -> element != null && element.isEnabled());
     } catch (WebDriverException e) {
       return false;
     }
@@ -370,8 +453,7 @@ public abstract class BaseWebElement {
    */
   public boolean isDisplayed() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.isDisplayed();
+      return withRawWebElement(element -> element != null && element.isDisplayed());
     } catch (WebDriverException e) {
       return false;
     }
@@ -384,8 +466,8 @@ public abstract class BaseWebElement {
    */
   public boolean isActive() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains("active");
+      return withRawWebElement(
+          element -> element != null && element.getAttribute("class").contains("active"));
     } catch (WebDriverException e) {
       return false;
     }
@@ -399,8 +481,8 @@ public abstract class BaseWebElement {
    */
   public boolean hasClass(String text) {
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains(text);
+      return withRawWebElement(
+          element -> element != null && element.getAttribute("class").contains(text));
     } catch (WebDriverException e) {
       return false;
     }
@@ -414,7 +496,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getAttribute(String)
    */
   public String getAttribute(String name) {
-    return getRawWebElement().getAttribute(name);
+    return withRawWebElement(element -> element.getAttribute(name));
   }
 
   /**
@@ -424,7 +506,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getText()
    */
   public String getText() {
-    return getRawWebElement().getText();
+    return withRawWebElement(element -> element.getText());
   }
 
   /**
@@ -434,7 +516,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getTagName()
    */
   public String getTagName() {
-    return getRawWebElement().getTagName();
+    return withRawWebElement(element -> element.getTagName());
   }
 
   /**
@@ -444,7 +526,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getLocation()
    */
   public Point getLocation() {
-    return getRawWebElement().getLocation();
+    return withRawWebElement(element -> element.getLocation());
   }
 
   /**
@@ -454,7 +536,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getSize()
    */
   public Dimension getSize() {
-    return getRawWebElement().getSize();
+    return withRawWebElement(element -> element.getSize());
   }
 
   /**
@@ -464,7 +546,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getRect()
    */
   public Rectangle getRect() {
-    return getRawWebElement().getRect();
+    return withRawWebElement(element -> element.getRect());
   }
 
   /**
@@ -474,7 +556,60 @@ public abstract class BaseWebElement {
    * @return the property as {@link String}
    */
   public String getCssValue(String propertyName) {
-    return getRawWebElement().getCssValue(propertyName);
+    return withRawWebElement(element -> element.getCssValue(propertyName));
+  }
+
+  /**
+   * Reads the text, tag name, rectangle, and displayed, enabled and selected state of the element
+   * in a single script call. Use this instead of calling each getter when checking several
+   * properties of the element at once.
+   *
+   * @return the state of the element as {@link ElementSnapshot}
+   * @see #snapshot(List, List)
+   */
+  public ElementSnapshot snapshot() {
+    return snapshot(List.of(), List.of());
+  }
+
+  /**
+   * Reads the text, tag name, rectangle, displayed, enabled and selected state, and the requested
+   * attributes and computed css values of the element in a single script call.
+   * <p>
+   * When the element can be found from its locators in the browser, see {@link
+   * BatchElementQuery#isFoundInBrowser(BaseWebElement)}, it's found by the same script without
+   * waiting for it to be displayed, so a hidden element is read as not displayed right away. Only
+   * an element that isn't on the page, or has another kind of locator, is found the regular way
+   * first, which waits for it to be displayed.
+   * <p>
+   * Example scenario:
+   * <pre>{@code
+   *      var snapshot = getLoginPage().getSubmitButton()
+   *          .snapshot(List.of("class", "type"), List.of("color"));
+   *      assertTrue(snapshot.isEnabled());
+   *      assertEquals("submit", snapshot.getAttribute("type"));
+   * }
+   * </pre>
+   *
+   * @param attributeNames   the names of the attributes to read
+   * @param cssPropertyNames the names of the css properties to read
+   * @return the state of the element as {@link ElementSnapshot}
+   */
+  @SuppressWarnings("unchecked")
+  public ElementSnapshot snapshot(List<String> attributeNames, List<String> cssPropertyNames) {
+    if (BatchElementQuery.isFoundInBrowser(this)) {
+      var result = (Map<String, Object>) getWebDriverWrapper().getJavascriptExecutor()
+          .executeScript(FIND_AND_SNAPSHOT_SCRIPT, BatchElementQuery.toLocatorQuery(this),
+              attributeNames, cssPropertyNames);
+      if (result != null) {
+        return ElementSnapshot.fromScriptResult(result);
+      }
+      log.debug(String.format("Element [%s] is not on the page yet, waiting for it", getBy()));
+    }
+
+    var result = withRawWebElement(element -> (Map<String, Object>) getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(SNAPSHOT_SCRIPT, element, attributeNames, cssPropertyNames));
+    return ElementSnapshot.fromScriptResult(result);
   }
 
   /**
@@ -489,10 +624,130 @@ public abstract class BaseWebElement {
    * <p>
    * In addition to finding the raw element, if an exception is encountered, we log errors from the
    * console. Useful for debugging.
+   * <p>
+   * When {@link DesiredCapabilitiesConfigurationProperties#setCacheElementHandles(boolean)} is
+   * enabled, the raw element is found once and reused until the {@link WebDriverWrapper} starts a
+   * new DOM generation, like after a navigation or a click. Interactions through this class find the
+   * element again if the reused one has gone stale.
    *
    * @return as   {@link WebElement}
    */
   public WebElement getRawWebElement() {
+    var webDriverWrapper = getWebDriverWrapper();
+    var cacheEnabled = getBaseElement() == null && webDriverWrapper != null
+        && webDriverWrapper.isElementHandleCacheEnabled();
+    if (!cacheEnabled) {
+      return findRawWebElement();
+    }
+    if (isCachedRawWebElementCurrent(webDriverWrapper)) {
+      return cachedRawWebElement;
+    }
+    // Read the generation before finding, so a change during the find isn't missed
+    var domGeneration = webDriverWrapper.getDomGeneration();
+    var rawWebElement = findRawWebElement();
+    cachedRawWebElement = rawWebElement;
+    cachedWebDriverWrapper = webDriverWrapper;
+    cachedDomGeneration = domGeneration;
+    return rawWebElement;
+  }
+
+  /**
+   * Clears the raw element reused by {@link #getRawWebElement()}, so the next interaction finds it
+   * again.
+   */
+  public void clearCachedRawWebElement() {
+    cachedRawWebElement = null;
+    cachedWebDriverWrapper = null;
+  }
+
+  /**
+   * Gets {@link #by} as a {@link Locator}. The {@link By} is parsed the first time this is called
+   * and again only if {@link #by} is replaced.
+   *
+   * @return as {@link Locator}, or null if this element doesn't have a {@link By}
+   */
+  public Locator getLocator() {
+    var currentBy = getBy();
+    if (currentBy != locatorSource) {
+      locator = currentBy == null ? null : Locator.of(currentBy);
+      locatorSource = currentBy;
+    }
+    return locator;
+  }
+
+  /**
+   * Gets {@link #parentBy} as a {@link Locator}. The {@link By} is parsed the first time this is
+   * called and again only if {@link #parentBy} is replaced.
+   *
+   * @return as {@link Locator}, or null if this element doesn't have a parent {@link By}
+   */
+  public Locator getParentLocator() {
+    var currentParentBy = getParentBy();
+    if (currentParentBy != parentLocatorSource) {
+      parentLocator = currentParentBy == null ? null : Locator.of(currentParentBy);
+      parentLocatorSource = currentParentBy;
+    }
+    return parentLocator;
+  }
+
+  /**
+   * Runs an action against the raw element. If the element handle cache is enabled and the raw
+   * element has gone stale, the element is found again and the action is retried once.
+   *
+   * @param action the action to run against the raw {@link WebElement}
+   * @param <T>    the type of the result of the action
+   * @return the result of the action
+   */
+  protected <T> T withRawWebElement(Function<WebElement, T> action) {
+    try {
+      return action.apply(getRawWebElement());
+    } catch (StaleElementReferenceException e) {
+      if (getWebDriverWrapper() == null || !getWebDriverWrapper().isElementHandleCacheEnabled()) {
+        throw e;
+      }
+      log.debug(String.format("Element [%s] went stale, locating it again", getBy()));
+      clearCachedRawWebElement();
+      return action.apply(getRawWebElement());
+    }
+  }
+
+  /**
+   * Runs an action that changes the page against the raw element, like typing. See {@link
+   * #withRawWebElement(Function)}. Afterwards, a new DOM generation is started since the action may
+   * have replaced elements on the page.
+   *
+   * @param action the action to run against the raw {@link WebElement}
+   */
+  protected void interactWithRawWebElement(Consumer<WebElement> action) {
+    withRawWebElement(element -> {
+      action.accept(element);
+      return null;
+    });
+    if (getWebDriverWrapper() != null) {
+      getWebDriverWrapper().invalidateElementHandles();
+    }
+  }
+
+  /**
+   * Whether the raw element found the last time is still reusable. It must have been found by the
+   * current {@link WebDriverWrapper}, since page objects outlive a test's browser, and in the current
+   * DOM generation.
+   *
+   * @param webDriverWrapper the current {@link WebDriverWrapper}
+   * @return true if the cached raw element can be reused
+   */
+  private boolean isCachedRawWebElementCurrent(WebDriverWrapper webDriverWrapper) {
+    return cachedRawWebElement != null
+        && webDriverWrapper == cachedWebDriverWrapper
+        && webDriverWrapper.getDomGeneration() == cachedDomGeneration;
+  }
+
+  /**
+   * Waits for the element to be displayed, unless it's hidden, and finds it.
+   *
+   * @return as {@link WebElement}
+   */
+  private WebElement findRawWebElement() {
     try {
             /*
             WebElement constructors are deprecated, and we should warn the user to not use these
@@ -547,6 +802,50 @@ public abstract class BaseWebElement {
         .executeScript("return arguments[0].parentNode;", getRawWebElement());
   }
 
+  /**
+   * Finds, scrolls to and clicks on this element in a single script call, instead of a wait, a
+   * scroll, a find and a click. A click that would land on another element, like an overlay, is
+   * tried once more after a short delay before failing. Used by clickable elements when fast click is enabled with
+   * {@link DesiredCapabilitiesConfigurationProperties#isFastClick()}.
+   * <p>
+   * Nothing is clicked when the element can't be found from its locators in the browser, isn't on
+   * the page, or isn't displayed yet. The caller should then fall back to a regular click, which
+   * waits for the element to be displayed.
+   *
+   * @param instrumentNetwork whether to instrument the page before the click, so a following
+   *                          {@link AutomationWait#waitForNetworkIdle()} sees the requests the
+   *                          click starts
+   * @return true if the element was clicked, false if the caller should click it the regular way
+   * @throws ElementClickInterceptedException if another element would receive the click on both
+   *                                          attempts
+   */
+  protected boolean clickWithScript(boolean instrumentNetwork) {
+    if (!BatchElementQuery.isFoundInBrowser(this)) {
+      return false;
+    }
+
+    var query = BatchElementQuery.toLocatorQuery(this);
+    for (var attempt = 1; attempt <= CLICK_SCRIPT_ATTEMPTS; attempt++) {
+      var result = getWebDriverWrapper().getJavascriptExecutor().executeScript(CLICK_SCRIPT, query,
+          instrumentNetwork);
+      if (CLICK_RESULT_CLICKED.equals(result)) {
+        getWebDriverWrapper().invalidateElementHandles();
+        return true;
+      } else if (!CLICK_RESULT_INTERCEPTED.equals(result)) {
+        log.debug(String.format("Element [%s] could not be clicked with a script: %s", getBy(),
+            result));
+        return false;
+      }
+      log.debug(String.format("Click on element [%s] was intercepted on attempt %s", getBy(),
+          attempt));
+      if (attempt < CLICK_SCRIPT_ATTEMPTS) {
+        AutomationUtils.sleep(CLICK_RETRY_DELAY_IN_MILLIS);
+      }
+    }
+    throw new ElementClickInterceptedException(String.format(
+        "Element [%s] is not clickable because another element would receive the click", getBy()));
+  }
+
   /**
    * Scrolls an element into view. Due to an issue found on https://github.com/kgress/scaffold/issues/115,
    * we updated the scroll to center align the element instead of top align.
@@ -672,13 +971,13 @@ public abstract class BaseWebElement {
     breaking code change.
     */
     if (getParentBy() != null) {
-      if (!(getParentBy() instanceof By.ByXPath) && !(getBy() instanceof By.ByXPath)) {
-        combinedBy = combineByLocators(getParentBy(), by);
+      if (!getParentLocator().isXPath() && !getLocator().isXPath()) {
+        combinedBy = getParentLocator().descendant(Locator.of(by)).toBy();
       }
     } else {
       updatedParentBy = getBy();
-      if (!(by instanceof By.ByXPath) && !(updatedParentBy instanceof By.ByXPath)) {
-        combinedBy = combineByLocators(updatedParentBy, by);
+      if (!(by instanceof By.ByXPath) && updatedParentBy != null && !getLocator().isXPath()) {
+        combinedBy = getLocator().descendant(Locator.of(by)).toBy();
       }
     }
 
@@ -793,14 +1092,13 @@ public abstract class BaseWebElement {
 
     if (by instanceof By.ByXPath) {
       return IntStream.range(0, elements.size())
-          .mapToObj(i -> createXPathChild(elementClass, by, i))
+          .mapToObj(i -> createXPathChild(elementClass, Locator.of(by), i))
           .collect(Collectors.toList());
     } else {
-      final var siblingElementsOfElement = getAllSiblingElementsOfElement(elements.get(0));
-      return IntStream.range(0, siblingElementsOfElement.size())
-          .mapToObj(i -> createCssSelectorChild(elementClass, by, elements,
-              siblingElementsOfElement, i))
-          .filter(Objects::nonNull)
+      final var combinedLocator = determineCombinedLocator(getLocator(), getParentLocator(),
+          Locator.of(by));
+      return getSiblingIndexesOfElements(elements).stream()
+          .map(siblingIndex -> createCssSelectorChild(elementClass, combinedLocator, siblingIndex))
           .collect(Collectors.toList());
     }
   }
@@ -855,96 +1153,40 @@ public abstract class BaseWebElement {
   }
 
   /**
-   * Combines the {@link By} locators of a parent and a child into a single locator. When combining,
-   * we need to make sure the combined locator is of the same type, where type = ofCSS or XPATH.
-   * ofCSS is a type that can be converted into a CSS selector, like tag, id, name, etc. XPATH only
-   * has one potential By type provided by Selenium.
+   * Gets the {@link WebElementWait} for the current {@link BaseWebElement} being interacted with.
+   * It's created with {@link #setWebElementWait()} the first time it's requested, and again when
+   * the element is used with a different {@link WebDriverWrapper}, like a page object that outlives
+   * the browser session it was first used in.
    *
-   * @param parentBy the parent {@link By} locator
-   * @param childBy  the child {@link By} locator
-   * @return as a combined {@link By} with the parent and child
+   * @return as {@link WebElementWait}
    */
-  private By combineByLocators(By parentBy, By childBy) {
-    if (parentBy instanceof By.ByXPath || childBy instanceof By.ByXPath) {
-      var exceptionMessage = new RuntimeException(String.format(
-          "Both By locators must be of type CSS when combining. Parent: %s. Child: %s",
-          parentBy, childBy));
-      if (!(parentBy instanceof By.ByXPath)) {
-        throw exceptionMessage;
-      } else if (!(childBy instanceof By.ByXPath)) {
-        throw exceptionMessage;
-      } else {
-        var combinedLocator = getCombinedByLocatorAsString(parentBy, childBy);
-        return By.xpath(combinedLocator);
-      }
-    } else {
-      var convertedParentBy = convertIsOfCssByToCssSelector(parentBy);
-      var convertedChildBy = convertIsOfCssByToCssSelector(childBy);
-      var combinedLocator = getCombinedByLocatorAsString(convertedParentBy, convertedChildBy);
-      return By.cssSelector(combinedLocator);
+  public WebElementWait getWebElementWait() {
+    var currentWait = webElementWait;
+    if (currentWait == null || currentWait.getWebDriverWrapper() != getWebDriverWrapper()) {
+      setWebElementWait();
+      currentWait = webElementWait;
     }
+    return currentWait;
   }
 
   /**
    * Creates a new element using {@link By.ByCssSelector}
    *
-   * @param elementClass         The element type to be created
-   * @param by                   The {@link By} selector to be used to create the element.
-   * @param elements             The list of elements found using the Selenium
-   *                             {@link WebElement#findElements} method.
-   * @param siblingElementsByTag The list of elements that are siblings and are the same tag as the
-   *                             elements found by {@link WebElement#findElements}
-   * @param i                    The index used to find the correct element among siblings that are
-   *                             the same.
-   * @param <T>The               Type of element being created.
+   * @param elementClass    The element type to be created
+   * @param combinedLocator The {@link Locator} of the children as determined by
+   *                        {@link #determineCombinedLocator(Locator, Locator, Locator)}
+   * @param siblingIndex    The index of the element among its siblings of the same tag, as found
+   *                        by {@link #getSiblingIndexesOfElements(List)}
+   * @param <T>             The Type of element being created.
    * @return a new instance of type T
    */
-  private <T extends BaseWebElement> T createCssSelectorChild(Class<T> elementClass, By by,
-      List<WebElement> elements, List<WebElement> siblingElementsByTag, int i) {
-    if (elements.contains(siblingElementsByTag.get(i))) {
-      final By newElementSelector = createElementSelector(
-          determineCombinedBy(getBy(), getParentBy(), by),
-          i);
-
-      try {
-        if (newElementSelector != null) {
-          final var constructor = elementClass.getConstructor(By.class);
-          return constructor.newInstance(newElementSelector);
-        } else {
-          /*
-          Worst case scenario here. We don't want a situation where the caller is
-          interacting with a scaffold element without a By locator.
-           */
-          final var constructor = elementClass.getConstructor(WebElement.class);
-          return constructor.newInstance(elements.get(i));
-        }
-      } catch (Exception e) {
-        throw new RuntimeException("Could not instantiate Element properly: " + e);
-      }
-    }
-    return null;
-  }
-
-  /**
-   * A pure function that encapsulates the logic to determine what the base {@link By} selector for
-   * the children elements.
-   *
-   * @param elementRootSelector the child root {@link By} selector as determined by
-   *    {@link #determineCombinedBy(By, By, By)}
-   * @param elementIndex the index of the rawElement found with {@link WebElement#findElements(By)}
-   *
-   * @return a new By selector to create elements that are children under the element that
-   *         performed the findElements query.
-   */
-  private By createElementSelector(By elementRootSelector, int elementIndex) {
-    if (elementRootSelector instanceof By.ByXPath) {
-      return By.xpath(String.format("%s[%s]",
-          AutomationUtils.getUnderlyingLocatorByString(elementRootSelector),
-          elementIndex + 1));
-    } else {
-      return By.cssSelector(String.format("%s:nth-child(%s)",
-          AutomationUtils.getUnderlyingLocatorByString(elementRootSelector),
-          elementIndex + 1));
+  private <T extends BaseWebElement> T createCssSelectorChild(Class<T> elementClass,
+      Locator combinedLocator, int siblingIndex) {
+    try {
+      final var constructor = elementClass.getConstructor(By.class);
+      return constructor.newInstance(combinedLocator.nth(siblingIndex).toBy());
+    } catch (Exception e) {
+      throw new RuntimeException("Could not instantiate Element properly: " + e);
     }
   }
 
@@ -952,16 +1194,16 @@ public abstract class BaseWebElement {
    * Creates a new element using {@link By.ByXPath}
    *
    * @param elementClass The element type to be created
-   * @param by           The {@link By} selector to be used to create the element.
+   * @param locator      The {@link Locator} to be used to create the element.
    * @param i            The index used to find the correct element among siblings that are the
    *                     same.
    * @param <T>          The Type of element being created.
    * @return a new instance of type T
    */
-  private <T extends BaseWebElement> T createXPathChild(Class<T> elementClass, By by,
+  private <T extends BaseWebElement> T createXPathChild(Class<T> elementClass, Locator locator,
       int i) {
     try {
-      final By newElementSelector = createElementSelector(by, i);
+      final By newElementSelector = locator.nth(i).toBy();
       final var constructor = elementClass.getConstructor(By.class, By.class);
       return constructor.newInstance(newElementSelector,
           getParentBy() == null ? getBy() : getParentBy());
@@ -974,15 +1216,15 @@ public abstract class BaseWebElement {
    * A pure function that encapsulates the logic to determine parent selector for the children
    * elements that need to be instantiated.
    *
-   * @param selfSelector the {@link By} selector referenced by {@link #by}
-   * @param selfParentSelector the {@link By} selector referenced by {@link #parentBy}
-   * @param queriedSelector the {@link By} selector passed in as argument to
+   * @param selfSelector the {@link Locator} of {@link #by}
+   * @param selfParentSelector the {@link Locator} of {@link #parentBy}
+   * @param queriedSelector the {@link Locator} of the {@link By} passed in as argument to
    *    {@link #findElements(Class, By)}
    *
-   * @return a instance of a {@link By} selector that is the combined selector of {@link #by} and
-   *    {@link #parentBy}
+   * @return a {@link Locator} that is the combined locator of {@link #by} and {@link #parentBy}
    */
-  private By determineCombinedBy(By selfSelector, By selfParentSelector, By queriedSelector) {
+  private Locator determineCombinedLocator(Locator selfSelector, Locator selfParentSelector,
+      Locator queriedSelector) {
     /*
     The current By of the instance becomes the new parent, and the By passed in by the caller
     is the new child. This will happen in the event the strongly typed element is not
@@ -997,79 +1239,43 @@ public abstract class BaseWebElement {
     getRawWebElement to perform two find element calls, one for the parent and one for the
     parent + child.
     */
-    if (queriedSelector instanceof By.ByXPath) {
+    if (queriedSelector.isXPath()) {
       return queriedSelector;
     } else if (selfParentSelector != null) {
-      if (!(selfParentSelector instanceof By.ByXPath) && !(selfSelector instanceof By.ByXPath)) {
-        var existingParentChildBy = combineByLocators(selfParentSelector, selfSelector);
-        return combineByLocators(existingParentChildBy, queriedSelector);
+      if (!selfParentSelector.isXPath() && !selfSelector.isXPath()) {
+        return selfParentSelector.descendant(selfSelector).descendant(queriedSelector);
       }
     } else {
-      if (!(selfSelector instanceof By.ByXPath)) {
-        return combineByLocators(selfSelector, queriedSelector);
+      if (!selfSelector.isXPath()) {
+        return selfSelector.descendant(queriedSelector);
       }
     }
     return selfSelector;
   }
 
   /**
-   * A pure function that encapsulates the logic to retrieve all possible sibling elements of the
-   * same type as the provided {@link WebElement}.  The purpose is correctly index the pseudo class
-   * nth-child when create the actual requested elements.
-   *
-   * @param webElement  The element to use, to retrieve all possible siblings
-   * @return A list of all possible siblings that match the tag of the provided {@link WebElement}.
-   */
-  private List<WebElement> getAllSiblingElementsOfElement(WebElement webElement) {
-    final String elementTagName = webElement.getTagName();
-
-    /* This gets the parent element (didn't use selector provided because there may be an
-     *  element between that parent selector and the actual child elements wanted.
-     *  Using the parent raw element, find all elements of the same tag that was found
-     *   using the provided by selector. We use this list to provide the real nth-child index.
-     */
-    return webElement.findElement(By.xpath("./..")).findElements(By.tagName(elementTagName));
-  }
-
-  /**
-   * Returns the "full" By locator used for this element. If the element has a "parent" defined, it
-   * will return the locator used
-   *
-   * @param parentBy the method in which the parent element is being located
-   * @param childBy  the method in which the child element is being located
-   * @return the locator as a {@link By}
-   */
-  private String getCombinedByLocatorAsString(By parentBy, By childBy) {
-    return String.format("%s %s", AutomationUtils.getUnderlyingLocatorByString(parentBy),
-        AutomationUtils.getUnderlyingLocatorByString(childBy));
-  }
-
-  /**
-   * Converts an ofCSS type into a CSS selector. Cannot convert XPATH at this time.
+   * Finds the index of each element among all elements of the same tag under the parent of the
+   * first element. The purpose is to correctly index the pseudo class nth-child when creating the
+   * actual requested elements. The indexes are computed in the browser with a single script call,
+   * since comparing every sibling against every element would take a round trip per comparison.
+   * <p>
+   * The parent is used instead of the selector provided because there may be an element between
+   * that parent selector and the actual child elements wanted.
    *
-   * @param by the {@link By} type that is ofCSS
-   * @return as {@link By}
+   * @param elements The elements found using {@link WebElement#findElements(By)}
+   * @return the indexes of the elements among their siblings of the same tag, in document order
    */
-  private By convertIsOfCssByToCssSelector(By by) {
-    var locator = AutomationUtils.getUnderlyingLocatorByString(by);
-
-    if (by instanceof By.ByCssSelector) {
-      return by;
-    } else if (by instanceof By.ByTagName) {
-      return By.cssSelector(locator);
-    } else if (by instanceof By.ById) {
-      return By.cssSelector(String.format("#%s", locator));
-    } else if (by instanceof By.ByClassName) {
-      return By.cssSelector(String.format(".%s", locator));
-    } else if (by instanceof By.ByName) {
-      return By.cssSelector(String.format("[name=%s]", locator));
-    } else if (by instanceof By.ByLinkText) {
-      return By.cssSelector(String.format("a[href=%s]", locator));
-    } else if (by instanceof By.ByPartialLinkText) {
-      return By.cssSelector(String.format("a[href~=%s]", locator));
-    } else {
-      throw new RuntimeException("Cannot convert XPATH to a CSS Selector");
+  @SuppressWarnings("unchecked")
+  private List<Integer> getSiblingIndexesOfElements(List<WebElement> elements) {
+    var siblingIndexes = (List<Object>) getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(SIBLING_INDEXES_SCRIPT, elements);
+    if (siblingIndexes == null) {
+      return List.of();
     }
+    return siblingIndexes.stream()
+        .map(siblingIndex -> ((Number) siblingIndex).intValue())
+        .collect(Collectors.toList());
   }
 
   /**
@@ -0,0 +1,151 @@
+package io.github.kgress.scaffold;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Finds a set of elements and reads their state in a single script call, instead of a wait, a find
+ * and a command for each element. Elements are found in the browser from their {@link By} locators
+ * the same way {@link BaseWebElement#getRawWebElement()} finds them, relative to the parent locator
+ * when there is one, except there is no wait for them to be displayed.
+ * <p>
+ * CSS selector, id, class name, name, tag name and xpath locators are found in the browser. Any
+ * other locator, like link text, is found through {@link BaseWebElement#getRawWebElement()} first
+ * and its raw element is passed to the script.
+ */
+@Slf4j
+public class BatchElementQuery {
+
+  /**
+   * Finds an element in the browser. Defines {@code find(root, using, value)}, which returns the
+   * first element under the root that matches the locator strategy and value, or null.
+   */
+  static final String FIND_FUNCTION =
+      "function find(root, using, value) {"
+      + "  switch (using) {"
+      + "    case 'xpath':"
+      + "      return document.evaluate(value, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+      + "          .singleNodeValue;"
+      + "    case 'id': return root.querySelector('#' + CSS.escape(value));"
+      + "    case 'class name': return root.querySelector('.' + CSS.escape(value));"
+      + "    case 'name': return root.querySelector('[name=\"' + CSS.escape(value) + '\"]');"
+      + "    default: return root.querySelector(value);"
+      + "  }"
+      + "}";
+
+  private static final String QUERY_SCRIPT = ElementSnapshot.SNAPSHOT_FUNCTION + FIND_FUNCTION
+      + "return arguments[0].map(function (query) {"
+      + "  var element = query.element || null;"
+      + "  if (!element && query.using) {"
+      + "    var root = query.parentUsing ? find(document, query.parentUsing, query.parentValue)"
+      + "        : document;"
+      + "    element = root ? find(root, query.using, query.value) : null;"
+      + "  }"
+      + "  return element ? snapshot(element, [], []) : null;"
+      + "});";
+
+  private final JavascriptExecutor javascriptExecutor;
+
+  public BatchElementQuery(JavascriptExecutor javascriptExecutor) {
+    this.javascriptExecutor = javascriptExecutor;
+  }
+
+  /**
+   * Finds the elements and reads their state in a single script call.
+   *
+   * @param elements the elements to find
+   * @return the state of each element, in the order they were given, as an {@link Optional} of
+   * {@link ElementSnapshot} that is empty when the element isn't on the page
+   */
+  @SuppressWarnings("unchecked")
+  public Map<BaseWebElement, Optional<ElementSnapshot>> query(List<? extends BaseWebElement> elements) {
+    var queries = new ArrayList<Map<String, Object>>();
+    elements.forEach(element -> queries.add(toQuery(element)));
+
+    var results = (List<Map<String, Object>>) javascriptExecutor.executeScript(QUERY_SCRIPT, queries);
+    var snapshots = new LinkedHashMap<BaseWebElement, Optional<ElementSnapshot>>();
+    for (var index = 0; index < elements.size(); index++) {
+      var result = results == null || index >= results.size() ? null : results.get(index);
+      snapshots.put(elements.get(index),
+          Optional.ofNullable(result).map(ElementSnapshot::fromScriptResult));
+    }
+    return snapshots;
+  }
+
+  /**
+   * Whether an element can be found from its locators in the browser, without finding its raw
+   * element first.
+   *
+   * @param element the element to check
+   * @return true if every locator of the element is supported in the browser
+   */
+  public static boolean isFoundInBrowser(BaseWebElement element) {
+    return !element.hasBaseElement()
+        && element.getLocator() != null
+        && getStrategy(element.getLocator()) != null
+        && (element.getParentLocator() == null || getStrategy(element.getParentLocator()) != null);
+  }
+
+  private Map<String, Object> toQuery(BaseWebElement element) {
+    if (isFoundInBrowser(element)) {
+      return toLocatorQuery(element);
+    }
+
+    // The locator can't be used in the browser, so find the raw element and hand it to the script
+    try {
+      var query = new HashMap<String, Object>();
+      query.put("element", element.getRawWebElement());
+      return query;
+    } catch (NoSuchElementException | TimeoutException e) {
+      log.debug(String.format("Element [%s] was not found for the batch query", element));
+    }
+    return new HashMap<>();
+  }
+
+  /**
+   * Creates the locator arguments of {@link #FIND_FUNCTION} for an element that {@link
+   * #isFoundInBrowser(BaseWebElement)}.
+   *
+   * @param element the element to find
+   * @return the strategy and value of the element's locator, and of its parent locator if it has
+   * one
+   */
+  static Map<String, Object> toLocatorQuery(BaseWebElement element) {
+    var query = new HashMap<String, Object>();
+    query.put("using", getStrategy(element.getLocator()));
+    query.put("value", element.getLocator().getSelector());
+    if (element.getParentLocator() != null) {
+      query.put("parentUsing", getStrategy(element.getParentLocator()));
+      query.put("parentValue", element.getParentLocator().getSelector());
+    }
+    return query;
+  }
+
+  private static String getStrategy(Locator locator) {
+    switch (locator.getStrategy()) {
+      case CSS_SELECTOR:
+        return "css selector";
+      case XPATH:
+        return "xpath";
+      case ID:
+        return "id";
+      case CLASS_NAME:
+        return "class name";
+      case NAME:
+        return "name";
+      case TAG_NAME:
+        return "tag name";
+      default:
+        return null;
+    }
+  }
+}
@@ -0,0 +1,424 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.Setter;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Waits for element conditions inside the browser instead of polling them from the test. A single
+ * async script checks the condition, and when it isn't met yet, watches the page with a {@code
+ * MutationObserver} and checks again on every change until the condition is met or the timeout
+ * expires. This replaces the {@link WebDriverWait} polling of {@link AutomationWait}, which sends
+ * one or more commands every 500 milliseconds, with one command per wait that returns as soon as
+ * the page changes.
+ * <p>
+ * Conditions that don't change the DOM, like a custom javascript predicate, are polled inside the
+ * browser on every animation frame instead, see {@link #waitForScriptCondition(String, List,
+ * Long)}. That's still a single command per wait, and it catches changes that only last a frame.
+ * <p>
+ * Only elements that {@link BatchElementQuery#isFoundInBrowser(BaseWebElement)} can be waited on.
+ * {@link AutomationWait} uses this when it's enabled with {@link
+ * DesiredCapabilitiesConfigurationProperties#isBrowserConditionWaits()}, and falls back to polling
+ * for any other element.
+ */
+public class BrowserConditionWait {
+
+  static final String DISPLAYED = "displayed";
+  static final String TEXT_CONTAINS = "text contains";
+  static final String HAS_CLASS = "has class";
+  static final String NOT_HAS_CLASS = "not has class";
+
+  /**
+   * Resolves with the element once the condition is met, or with null when the timeout expires.
+   * Besides page mutations, the condition is checked again when a css transition or animation ends,
+   * since those can change visibility without changing the DOM.
+   */
+  private static final String WAIT_SCRIPT = BatchElementQuery.FIND_FUNCTION
+      + "var query = arguments[0], condition = arguments[1], expected = arguments[2];"
+      + "var timeout = arguments[3], done = arguments[arguments.length - 1];"
+      + "function locate() {"
+      + "  var root = query.parentUsing ? find(document, query.parentUsing, query.parentValue)"
+      + "      : document;"
+      + "  return root ? find(root, query.using, query.value) : null;"
+      + "}"
+      + "function isDisplayed(element) {"
+      + "  var style = window.getComputedStyle(element);"
+      + "  return element.getClientRects().length > 0 && style.visibility !== 'hidden'"
+      + "      && style.visibility !== 'collapse';"
+      + "}"
+      + "function check() {"
+      + "  var element = locate();"
+      + "  if (!element) { return null; }"
+      + "  var classes = element.getAttribute('class') || '';"
+      + "  switch (condition) {"
+      + "    case '" + DISPLAYED + "':"
+      + "      return isDisplayed(element) ? element : null;"
+      + "    case '" + TEXT_CONTAINS + "':"
+      + "      var text = isDisplayed(element) ? element.innerText || element.textContent || '' : '';"
+      + "      return text.indexOf(expected) !== -1 ? element : null;"
+      + "    case '" + HAS_CLASS + "':"
+      + "      return classes.indexOf(expected) !== -1 ? element : null;"
+      + "    case '" + NOT_HAS_CLASS + "':"
+      + "      return classes.indexOf(expected) === -1 ? element : null;"
+      + "  }"
+      + "  return null;"
+      + "}"
+      + "var result = check();"
+      + "if (result) { done(result); return; }"
+      + "var finished = false, timer;"
+      + "var observer = new MutationObserver(onChange);"
+      + "function finish(value) {"
+      + "  if (finished) { return; }"
+      + "  finished = true;"
+      + "  observer.disconnect();"
+      + "  document.removeEventListener('transitionend', onChange, true);"
+      + "  document.removeEventListener('animationend', onChange, true);"
+      + "  clearTimeout(timer);"
+      + "  done(value);"
+      + "}"
+      + "function onChange() {"
+      + "  var value = check();"
+      + "  if (value) { finish(value); }"
+      + "}"
+      + "observer.observe(document.documentElement,"
+      + "    {childList: true, subtree: true, attributes: true, characterData: true});"
+      + "document.addEventListener('transitionend', onChange, true);"
+      + "document.addEventListener('animationend', onChange, true);"
+      + "timer = setTimeout(function () { finish(null); }, timeout);";
+
+  /**
+   * The longest timer delay that counts as pending work for {@link #INSTRUMENT_NETWORK_FUNCTION}.
+   * Longer timers, like a session timeout warning, would keep the page from ever being idle.
+   */
+  private static final long MAX_TRACKED_TIMER_DELAY_IN_MILLIS = 500L;
+
+  /**
+   * Instruments the page to count its in-flight fetch and XHR requests and its pending short
+   * timers. Defines {@code instrumentNetwork()}, which installs the instrumentation once per
+   * document and returns the monitor with the counts and the time of the last activity. A timer
+   * scheduled from a tracked timer's own callback isn't tracked, so a polling loop doesn't keep the
+   * page busy forever.
+   */
+  static final String INSTRUMENT_NETWORK_FUNCTION = "function instrumentNetwork() {"
+      + "  if (window.__scaffoldNetwork) { return window.__scaffoldNetwork; }"
+      + "  var monitor = {inFlight: 0, pendingTimers: 0, lastActivity: Date.now(),"
+      + "      setTimeout: window.setTimeout};"
+      + "  window.__scaffoldNetwork = monitor;"
+      + "  function touch() { monitor.lastActivity = Date.now(); }"
+      + "  function requestStarted() { monitor.inFlight++; touch(); }"
+      + "  function requestEnded() { monitor.inFlight = Math.max(0, monitor.inFlight - 1); touch(); }"
+      + "  if (window.fetch) {"
+      + "    var originalFetch = window.fetch;"
+      + "    window.fetch = function () {"
+      + "      requestStarted();"
+      + "      try {"
+      + "        return originalFetch.apply(window, arguments).then("
+      + "            function (response) { requestEnded(); return response; },"
+      + "            function (error) { requestEnded(); throw error; });"
+      + "      } catch (e) { requestEnded(); throw e; }"
+      + "    };"
+      + "  }"
+      + "  var originalSend = XMLHttpRequest.prototype.send;"
+      + "  XMLHttpRequest.prototype.send = function () {"
+      + "    requestStarted();"
+      + "    this.addEventListener('loadend', requestEnded);"
+      + "    try { return originalSend.apply(this, arguments); }"
+      + "    catch (e) { this.removeEventListener('loadend', requestEnded); requestEnded(); throw e; }"
+      + "  };"
+      + "  var pendingTimers = {}, inTimerCallback = false;"
+      + "  var originalSetTimeout = window.setTimeout, originalClearTimeout = window.clearTimeout;"
+      + "  function timerEnded(id) {"
+      + "    if (pendingTimers[id]) { delete pendingTimers[id]; monitor.pendingTimers--; touch(); }"
+      + "  }"
+      + "  window.setTimeout = function (callback, delay) {"
+      + "    if (typeof callback !== 'function' || inTimerCallback"
+      + "        || (delay || 0) > " + MAX_TRACKED_TIMER_DELAY_IN_MILLIS + ") {"
+      + "      return originalSetTimeout.apply(window, arguments);"
+      + "    }"
+      + "    var args = Array.prototype.slice.call(arguments, 2);"
+      + "    var id = originalSetTimeout.call(window, function () {"
+      + "      timerEnded(id);"
+      + "      inTimerCallback = true;"
+      + "      try { callback.apply(window, args); } finally { inTimerCallback = false; }"
+      + "    }, delay);"
+      + "    pendingTimers[id] = true;"
+      + "    monitor.pendingTimers++;"
+      + "    return id;"
+      + "  };"
+      + "  window.clearTimeout = function (id) {"
+      + "    timerEnded(id);"
+      + "    return originalClearTimeout.apply(window, arguments);"
+      + "  };"
+      + "  return monitor;"
+      + "}";
+
+  /**
+   * The body of a predicate for {@link #POLL_SCRIPT_START} that's true once the page has had no
+   * requests in flight and no short timers pending for the quiet period in {@code arguments[0]}.
+   */
+  private static final String NETWORK_IDLE_PREDICATE = INSTRUMENT_NETWORK_FUNCTION
+      + "var monitor = instrumentNetwork();"
+      + "return monitor.inFlight === 0 && monitor.pendingTimers === 0"
+      + "    && Date.now() - monitor.lastActivity >= arguments[0];";
+
+  /**
+   * Polls a predicate on every animation frame until it returns a truthy value or the timeout
+   * expires. Animation frames don't run in a hidden tab, so a hidden tab polls on a timer instead,
+   * using the original {@code setTimeout} when the page is instrumented. Defined around the body of {@code predicate()}, see {@link #createPollScript(String)}.
+   */
+  private static final String POLL_SCRIPT_START =
+      "var timeout = arguments[0], done = arguments[arguments.length - 1];"
+          + "var args = Array.prototype.slice.call(arguments, 1, arguments.length - 1);"
+          + "var deadline = Date.now() + timeout;"
+          + "function predicate() {";
+  private static final String POLL_SCRIPT_END = "}"
+      + "function poll() {"
+      + "  var value;"
+      + "  try {"
+      + "    value = predicate.apply(null, args);"
+      + "  } catch (e) {"
+      + "    done({error: String(e)});"
+      + "    return;"
+      + "  }"
+      + "  if (value) { done({value: value}); return; }"
+      + "  if (Date.now() >= deadline) { done({timedOut: true}); return; }"
+      + "  var schedule = window.__scaffoldNetwork ? window.__scaffoldNetwork.setTimeout : setTimeout;"
+      + "  if (document.hidden) { schedule.call(window, poll, 50); } else { requestAnimationFrame(poll); }"
+      + "}"
+      + "poll();";
+
+  /**
+   * The body of a predicate for {@link #POLL_SCRIPT_START} that finds an element from the locator
+   * arguments of {@link BatchElementQuery#toLocatorQuery(BaseWebElement)} and returns it when it's
+   * enabled.
+   */
+  private static final String ELEMENT_IS_ENABLED_PREDICATE = BatchElementQuery.FIND_FUNCTION
+      + "var query = arguments[0];"
+      + "var root = query.parentUsing ? find(document, query.parentUsing, query.parentValue)"
+      + "    : document;"
+      + "var element = root ? find(root, query.using, query.value) : null;"
+      + "return element && !element.disabled ? element : null;";
+
+  /**
+   * The time the driver's script timeout is given beyond the wait's own timeout, so the script
+   * resolves on its own before the driver gives up on it.
+   */
+  private static final long SCRIPT_TIMEOUT_MARGIN_IN_SECONDS = 2L;
+
+  @Getter
+  private final WebDriverWrapper webDriverWrapper;
+
+  @Getter
+  private final AutomationWait automationWait;
+
+  /**
+   * The script timeout of the session, which a wait that needs a longer one restores once it's
+   * done. Defaults to the WebDriver default of 30 seconds. Set this when the session's script
+   * timeout is changed, so browser waits restore that one instead.
+   */
+  @Getter
+  @Setter
+  private long sessionScriptTimeoutInSeconds = 30L;
+
+  /**
+   * @param webDriverWrapper the {@link WebDriverWrapper} to run the waits with
+   * @param automationWait   the {@link AutomationWait} that provides the default timeout
+   */
+  public BrowserConditionWait(WebDriverWrapper webDriverWrapper, AutomationWait automationWait) {
+    this.webDriverWrapper = webDriverWrapper;
+    this.automationWait = automationWait;
+  }
+
+  /**
+   * Whether an element can be waited on in the browser.
+   *
+   * @param element the {@link BaseWebElement} to wait on
+   * @return true if the element can be found from its locators in the browser
+   */
+  public static boolean canWaitFor(BaseWebElement element) {
+    return BatchElementQuery.isFoundInBrowser(element);
+  }
+
+  /**
+   * Waits for an element to be displayed.
+   *
+   * @param element        the {@link BaseWebElement} we are waiting on
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return the displayed element as {@link WebElement}
+   */
+  public WebElement waitUntilDisplayed(BaseWebElement element, Long setTempTimeout) {
+    return waitForCondition(element, DISPLAYED, null, setTempTimeout);
+  }
+
+  /**
+   * Waits for an element's text to contain a specific string.
+   *
+   * @param element        the {@link BaseWebElement} we are checking
+   * @param text           the text we're waiting the element to contain
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return as {@link Boolean}
+   */
+  public Boolean waitForTextToContain(BaseWebElement element, String text, Long setTempTimeout) {
+    waitForCondition(element, TEXT_CONTAINS, text, setTempTimeout);
+    return true;
+  }
+
+  /**
+   * Waits for an element's class attribute to contain a specific string.
+   *
+   * @param element        the {@link BaseWebElement} we are checking
+   * @param className      the string we're expecting the class name to contain
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return as {@link Boolean}
+   */
+  public Boolean waitForElementToHaveClass(BaseWebElement element, String className,
+      Long setTempTimeout) {
+    waitForCondition(element, HAS_CLASS, className, setTempTimeout);
+    return true;
+  }
+
+  /**
+   * Waits for an element's class attribute to not contain a specific string.
+   *
+   * @param element        the {@link BaseWebElement} we are checking
+   * @param className      the string we're expecting the class name to not contain
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return as {@link Boolean}
+   */
+  public Boolean waitForElementToNotHaveClass(BaseWebElement element, String className,
+      Long setTempTimeout) {
+    waitForCondition(element, NOT_HAS_CLASS, className, setTempTimeout);
+    return true;
+  }
+
+  /**
+   * Waits for an element to become enabled, polling inside the browser.
+   *
+   * @param element        the {@link BaseWebElement} we are waiting on
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return as {@link Boolean}
+   */
+  public Boolean waitUntilElementIsEnabled(BaseWebElement element, Long setTempTimeout) {
+    waitForScriptCondition(ELEMENT_IS_ENABLED_PREDICATE,
+        List.of(BatchElementQuery.toLocatorQuery(element)), setTempTimeout);
+    return true;
+  }
+
+  /**
+   * Instruments the page to count its in-flight requests and pending short timers, so a later
+   * {@link #waitForNetworkIdle(long, Long)} also sees the requests started in between, like the
+   * ones started by a click. The instrumentation is installed once per document.
+   */
+  public void instrumentNetwork() {
+    getWebDriverWrapper().getJavascriptExecutor()
+        .executeScript(INSTRUMENT_NETWORK_FUNCTION + "instrumentNetwork();");
+  }
+
+  /**
+   * Waits until the page has had no fetch or XHR requests in flight and no short timers pending for
+   * the quiet period, polling inside the browser. When the page hasn't been instrumented yet with
+   * {@link #instrumentNetwork()}, it's instrumented now and waits at least the quiet period.
+   *
+   * @param quietPeriodInMillis how long the page must be quiet
+   * @param setTempTimeout      an option to use a timeout other than the one set in the spring
+   *                            profile
+   * @return as {@link Boolean}
+   */
+  public Boolean waitForNetworkIdle(long quietPeriodInMillis, Long setTempTimeout) {
+    waitForScriptCondition(NETWORK_IDLE_PREDICATE, List.of(quietPeriodInMillis), setTempTimeout);
+    return true;
+  }
+
+  /**
+   * Waits for a javascript predicate to return a truthy value, polling it inside the browser on
+   * every animation frame. The predicate is the body of a function, and the arguments are passed to
+   * it the same way as {@link JavascriptExecutor#executeScript(String, Object...)}.
+   * <p>
+   * Example:
+   * <pre>{@code
+   *      waitForScriptCondition("return window.jQuery && jQuery.active === 0;", List.of(), null);
+   * }
+   * </pre>
+   *
+   * @param predicate      the body of the javascript predicate
+   * @param args           the arguments of the predicate, as {@code arguments[0]} and so on
+   * @param setTempTimeout an option to use a timeout other than the one set in the spring profile
+   * @return the value the predicate returned, converted the same way as the result of {@link
+   * JavascriptExecutor#executeScript(String, Object...)}
+   */
+  public Object waitForScriptCondition(String predicate, List<?> args, Long setTempTimeout) {
+    var timeoutInSeconds = getTimeoutInSeconds(setTempTimeout);
+    var scriptArgs = new ArrayList<Object>();
+    scriptArgs.add(TimeUnit.SECONDS.toMillis(timeoutInSeconds));
+    scriptArgs.addAll(args);
+    var result = (Map<?, ?>) withScriptTimeout(timeoutInSeconds, () -> getWebDriverWrapper()
+        .getJavascriptExecutor().executeAsyncScript(createPollScript(predicate), scriptArgs.toArray()));
+    if (result != null && result.containsKey("error")) {
+      throw new JavascriptException(String.format("The wait predicate failed: %s",
+          result.get("error")));
+    } else if (result == null || !result.containsKey("value")) {
+      throw new TimeoutException(String.format(
+          "Expected condition failed: waiting for script predicate [%s] "
+              + "(tried for %s second(s) in the browser)", predicate, timeoutInSeconds));
+    }
+    return result.get("value");
+  }
+
+  private WebElement waitForCondition(BaseWebElement element, String condition, String expected,
+      Long setTempTimeout) {
+    var timeoutInSeconds = getTimeoutInSeconds(setTempTimeout);
+    var result = withScriptTimeout(timeoutInSeconds, () -> getWebDriverWrapper()
+        .getJavascriptExecutor().executeAsyncScript(WAIT_SCRIPT,
+            BatchElementQuery.toLocatorQuery(element), condition, expected,
+            TimeUnit.SECONDS.toMillis(timeoutInSeconds)));
+    if (result instanceof WebElement) {
+      return (WebElement) result;
+    }
+    throw new TimeoutException(String.format(
+        "Expected condition failed: waiting for element [%s] to match [%s%s] "
+            + "(tried for %s second(s) in the browser)",
+        element.getBy(), condition, expected == null ? "" : " " + expected, timeoutInSeconds));
+  }
+
+  private long getTimeoutInSeconds(Long setTempTimeout) {
+    return setTempTimeout != null ? setTempTimeout : getAutomationWait().getTimeoutInSeconds();
+  }
+
+  private static String createPollScript(String predicate) {
+    return POLL_SCRIPT_START + predicate + POLL_SCRIPT_END;
+  }
+
+  /**
+   * Runs the async script of a wait, making sure the driver lets it run for the whole wait. When
+   * the session's script timeout is too short, it's raised for the wait and restored afterwards, so
+   * the longer timeout doesn't leak into the async scripts of the test.
+   *
+   * @param timeoutInSeconds the timeout of the wait
+   * @param script           runs the async script
+   * @return the result of the script
+   */
+  private Object withScriptTimeout(long timeoutInSeconds, Supplier<Object> script) {
+    var requiredScriptTimeout = timeoutInSeconds + SCRIPT_TIMEOUT_MARGIN_IN_SECONDS;
+    var sessionScriptTimeout = getSessionScriptTimeoutInSeconds();
+    if (requiredScriptTimeout <= sessionScriptTimeout) {
+      return script.get();
+    }
+    var timeouts = getWebDriverWrapper().manage().timeouts();
+    timeouts.setScriptTimeout(requiredScriptTimeout, TimeUnit.SECONDS);
+    try {
+      return script.get();
+    } finally {
+      timeouts.setScriptTimeout(sessionScriptTimeout, TimeUnit.SECONDS);
+    }
+  }
+}
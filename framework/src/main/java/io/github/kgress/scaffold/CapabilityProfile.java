@@ -0,0 +1,104 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.lang.reflect.Constructor;
+import java.util.function.Function;
+import lombok.Getter;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.MutableCapabilities;
+
+/**
+ * The validated browser capabilities for a {@link RunType}, built once and copied for every new
+ * session. The template is immutable, so every session gets its own copy to hand to the driver.
+ * <p>
+ * Only the capabilities that change per test are patched into the copy: the Sauce job name and the
+ * Grid test run id. A session that's started before its test is known, like one started by the
+ * {@link WebDriverPreWarmer}, is started without them.
+ */
+public class CapabilityProfile {
+
+  static final String SAUCE_OPTIONS_CAPABILITY = "sauce:options";
+  private static final String SAUCE_NAME_CAPABILITY = "name";
+  private static final String GRID_UUID_CAPABILITY = "uuid";
+
+  @Getter
+  private final RunType runType;
+
+  @Getter
+  private final Capabilities template;
+
+  /**
+   * The URL to start remote sessions against. This is null for a local run.
+   */
+  @Getter
+  private final String remoteUrl;
+
+  private final Function<Capabilities, MutableCapabilities> copier;
+
+  public CapabilityProfile(RunType runType, MutableCapabilities browserOptions, String remoteUrl) {
+    this.runType = runType;
+    this.template = new ImmutableCapabilities(browserOptions);
+    this.remoteUrl = remoteUrl;
+    this.copier = copierFor(browserOptions);
+  }
+
+  /**
+   * Creates the capabilities for a new session, with the per test capabilities patched in.
+   *
+   * @param testName the name of the test the session is being started for, or null when the test
+   *                 isn't known yet and the per test capabilities should be left out
+   * @return a copy of the template as {@link MutableCapabilities}, of the same options type the
+   * template was built from
+   */
+  public MutableCapabilities newSessionCapabilities(String testName) {
+    var capabilities = copier.apply(getTemplate());
+    if (testName == null) {
+      return capabilities;
+    }
+    switch (getRunType()) {
+      case GRID:
+        capabilities.setCapability(GRID_UUID_CAPABILITY, TestContext.baseContext()
+            .getSetting(String.class, TestContextSetting.TEST_RUN_ID));
+        break;
+      case SAUCE:
+      case SAUCE_MOBILE_EMULATOR:
+        // The sauce options are nested, so they're copied too before being patched
+        var sauceOptions = new MutableCapabilities(
+            (Capabilities) getTemplate().getCapability(SAUCE_OPTIONS_CAPABILITY));
+        sauceOptions.setCapability(SAUCE_NAME_CAPABILITY, testName);
+        capabilities.setCapability(SAUCE_OPTIONS_CAPABILITY, sauceOptions);
+        break;
+      default:
+        break;
+    }
+    return capabilities;
+  }
+
+  /**
+   * Local drivers require their own options type, so copies are merged into a new instance of the
+   * same type the template was built from. The type is created reflectively so the profile doesn't
+   * reference, and load, the options class of every browser.
+   *
+   * @param browserOptions the browser options the template is built from
+   * @return a function that copies the template
+   */
+  private static Function<Capabilities, MutableCapabilities> copierFor(
+      MutableCapabilities browserOptions) {
+    Constructor<? extends MutableCapabilities> constructor;
+    try {
+      constructor = browserOptions.getClass().getConstructor();
+    } catch (NoSuchMethodException e) {
+      return MutableCapabilities::new;
+    }
+    return capabilities -> {
+      try {
+        return constructor.newInstance().merge(capabilities);
+      } catch (ReflectiveOperationException e) {
+        throw new WebDriverManagerException(String.format("Unable to copy the %s browser options",
+            constructor.getDeclaringClass().getSimpleName()), e);
+      }
+    };
+  }
+}
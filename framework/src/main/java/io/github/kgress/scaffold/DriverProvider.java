@@ -0,0 +1,39 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A service provider that builds the browser options for, and starts the sessions of, a single
+ * browser or run type. Providers are discovered with {@link java.util.ServiceLoader} and selected
+ * by their {@link DriverProviderFor} annotation, so only the selected provider, and the Selenium
+ * driver classes it uses, are ever instantiated.
+ * <p>
+ * A provider for a {@link BrowserType} supplies the desktop browser options for every run type and
+ * starts local sessions. A provider for a custom run type handles a {@link RunType#CUSTOM} run
+ * from start to finish, which allows in house run types without changing the {@link
+ * WebDriverManager}. Providers are registered in {@code META-INF/services/io.github.kgress.scaffold.DriverProvider}.
+ */
+public interface DriverProvider {
+
+  /**
+   * Creates the browser options. This is called once per test run, when the {@link
+   * CapabilityProfile} is built, so configuration errors should be thrown from here.
+   *
+   * @param desiredCapabilities the desired capabilities of the test run
+   * @return the browser options as {@link MutableCapabilities}
+   */
+  MutableCapabilities createBrowserOptions(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities);
+
+  /**
+   * Starts a new session with a copy of the browser options this provider created.
+   *
+   * @param browserOptions the browser options for the new session
+   * @return the new session as {@link WebDriver}
+   */
+  WebDriver startSession(MutableCapabilities browserOptions);
+}
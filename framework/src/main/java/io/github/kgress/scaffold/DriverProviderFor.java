@@ -0,0 +1,30 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects when a {@link DriverProvider} is used. The annotation is read from the provider class
+ * before the provider is instantiated.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DriverProviderFor {
+
+  /**
+   * @return the {@link BrowserType}s the provider supplies browser options and local sessions for
+   */
+  BrowserType[] browserTypes() default {};
+
+  /**
+   * @return the name of the custom run type the provider handles when the run type is {@link
+   * RunType#CUSTOM}
+   */
+  String customRunType() default "";
+}
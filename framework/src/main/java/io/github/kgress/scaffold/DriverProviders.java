@@ -0,0 +1,67 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Looks up the {@link DriverProvider} for a browser type or custom run type. Providers are
+ * filtered on their {@link DriverProviderFor} annotation before being instantiated, so providers
+ * that aren't selected are never initialized. The selected provider is cached for the lifetime of
+ * the JVM.
+ */
+@Slf4j
+public class DriverProviders {
+
+  private static final Map<String, DriverProvider> PROVIDERS = new ConcurrentHashMap<>();
+
+  private DriverProviders() {
+  }
+
+  /**
+   * Returns the provider for the browser type.
+   *
+   * @param browserType the {@link BrowserType} of the test run
+   * @return as {@link DriverProvider}
+   */
+  public static DriverProvider forBrowserType(BrowserType browserType) {
+    return PROVIDERS.computeIfAbsent("browser-type:" + browserType.name(),
+        key -> load(driverProviderFor -> Arrays.asList(driverProviderFor.browserTypes())
+            .contains(browserType), "browser type " + browserType.getBrowserName()));
+  }
+
+  /**
+   * Returns the provider for the custom run type.
+   *
+   * @param customRunType the name of the custom run type
+   * @return as {@link DriverProvider}
+   */
+  public static DriverProvider forCustomRunType(String customRunType) {
+    if (customRunType == null || customRunType.isBlank()) {
+      throw new WebDriverManagerException(
+          "A custom run type is required when the run type is CUSTOM. Please check your configuration.");
+    }
+    return PROVIDERS.computeIfAbsent("custom-run-type:" + customRunType,
+        key -> load(driverProviderFor -> driverProviderFor.customRunType().equals(customRunType),
+            "custom run type " + customRunType));
+  }
+
+  private static DriverProvider load(Predicate<DriverProviderFor> selector, String description) {
+    var provider = ServiceLoader.load(DriverProvider.class).stream()
+        .filter(candidate -> Optional
+            .ofNullable(candidate.type().getAnnotation(DriverProviderFor.class))
+            .filter(selector)
+            .isPresent())
+        .findFirst()
+        .orElseThrow(() -> new WebDriverManagerException(
+            String.format("No DriverProvider is registered for %s", description)));
+    log.debug(String.format("Using %s for %s", provider.type().getName(), description));
+    return provider.get();
+  }
+}
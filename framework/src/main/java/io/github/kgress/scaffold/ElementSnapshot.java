@@ -0,0 +1,135 @@
+package io.github.kgress.scaffold;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ * The state of an element at a point in time, read from the browser in a single script call
+ * instead of a separate command for each property. Created with {@link BaseWebElement#snapshot()}.
+ * <p>
+ * A snapshot is not updated when the page changes. Take a new snapshot to read the current state.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ElementSnapshot {
+
+  /**
+   * Reads the state of an element. Defines {@code snapshot(element, attributeNames,
+   * cssPropertyNames)}, which returns the map read by {@link #fromScriptResult(Map)}. Attributes
+   * prefer the element's property of the same name, the same as {@link
+   * WebElement#getAttribute(String)}.
+   */
+  static final String SNAPSHOT_FUNCTION =
+      "function snapshot(element, attributeNames, cssPropertyNames) {"
+          + "  var style = window.getComputedStyle(element);"
+          + "  var rect = element.getBoundingClientRect();"
+          + "  var displayed = element.getClientRects().length > 0"
+          + "      && style.visibility !== 'hidden' && style.visibility !== 'collapse';"
+          + "  var attributes = {};"
+          + "  (attributeNames || []).forEach(function (name) {"
+          + "    var value = name in element && typeof element[name] !== 'object'"
+          + "        && typeof element[name] !== 'function' ? element[name] : element.getAttribute(name);"
+          + "    if (value === false) { value = null; }"
+          + "    attributes[name] = value === null || value === undefined ? null : String(value);"
+          + "  });"
+          + "  var cssValues = {};"
+          + "  (cssPropertyNames || []).forEach(function (name) {"
+          + "    cssValues[name] = style.getPropertyValue(name);"
+          + "  });"
+          + "  return {"
+          + "    text: displayed ? (element.innerText || element.textContent || '').trim() : '',"
+          + "    tagName: element.tagName.toLowerCase(),"
+          + "    attributes: attributes,"
+          + "    cssValues: cssValues,"
+          + "    x: Math.round(rect.left + window.pageXOffset),"
+          + "    y: Math.round(rect.top + window.pageYOffset),"
+          + "    width: Math.round(rect.width),"
+          + "    height: Math.round(rect.height),"
+          + "    displayed: displayed,"
+          + "    enabled: !element.disabled,"
+          + "    selected: !!(element.selected || element.checked)"
+          + "  };"
+          + "}";
+
+  private final String text;
+  private final String tagName;
+  private final Map<String, String> attributes;
+  private final Map<String, String> cssValues;
+  private final Rectangle rect;
+  private final boolean displayed;
+  private final boolean enabled;
+  private final boolean selected;
+
+  ElementSnapshot(String text, String tagName, Map<String, String> attributes,
+      Map<String, String> cssValues, Rectangle rect, boolean displayed, boolean enabled,
+      boolean selected) {
+    this.text = text;
+    this.tagName = tagName;
+    this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    this.cssValues = Collections.unmodifiableMap(new LinkedHashMap<>(cssValues));
+    this.rect = rect;
+    this.displayed = displayed;
+    this.enabled = enabled;
+    this.selected = selected;
+  }
+
+  /**
+   * Returns the value of an attribute that was requested when the snapshot was taken.
+   *
+   * @param name the name of the attribute
+   * @return the value as {@link String}, or null if the element doesn't have the attribute or it
+   * wasn't requested
+   */
+  public String getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  /**
+   * Returns the computed value of a css property that was requested when the snapshot was taken.
+   *
+   * @param propertyName the name of the css property
+   * @return the value as {@link String}, or null if the property wasn't requested
+   */
+  public String getCssValue(String propertyName) {
+    return cssValues.get(propertyName);
+  }
+
+  /**
+   * Creates a snapshot from the map returned by the {@link #SNAPSHOT_FUNCTION} script.
+   *
+   * @param result the result of the script
+   * @return as {@link ElementSnapshot}
+   */
+  @SuppressWarnings("unchecked")
+  static ElementSnapshot fromScriptResult(Map<String, Object> result) {
+    return new ElementSnapshot(
+        (String) result.get("text"),
+        (String) result.get("tagName"),
+        toStringMap((Map<String, Object>) result.get("attributes")),
+        toStringMap((Map<String, Object>) result.get("cssValues")),
+        new Rectangle(toInt(result.get("x")), toInt(result.get("y")),
+            toInt(result.get("height")), toInt(result.get("width"))),
+        Boolean.TRUE.equals(result.get("displayed")),
+        Boolean.TRUE.equals(result.get("enabled")),
+        Boolean.TRUE.equals(result.get("selected")));
+  }
+
+  private static Map<String, String> toStringMap(Map<String, Object> values) {
+    var stringMap = new LinkedHashMap<String, String>();
+    if (values != null) {
+      values.forEach((key, value) -> stringMap.put(key, value == null ? null : value.toString()));
+    }
+    return stringMap;
+  }
+
+  private static int toInt(Object value) {
+    return value instanceof Number ? ((Number) value).intValue() : 0;
+  }
+}
@@ -0,0 +1,131 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A circuit breaker for session creation against a single remote endpoint.
+ * <p>
+ * The breaker opens after a configured number of consecutive failures. While it's open, session
+ * creation fails fast instead of every worker waiting on its own timeout against an endpoint that
+ * is down or saturated. Once the open duration has passed, one trial session creation is let
+ * through. If it succeeds the breaker closes, and if it fails the breaker opens again.
+ * <p>
+ * A failure threshold of zero or less disables the breaker.
+ */
+@Slf4j
+public class EndpointCircuitBreaker {
+
+  private static final Map<String, EndpointCircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  @Getter
+  private final String endpoint;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final int failureThreshold;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration openDuration;
+
+  @Getter
+  private State state = State.CLOSED;
+
+  private int consecutiveFailures;
+  private long openedAt;
+
+  public EndpointCircuitBreaker(String endpoint, int failureThreshold, Duration openDuration) {
+    this.endpoint = endpoint;
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+  }
+
+  /**
+   * Returns the breaker for the endpoint, creating it the first time it's requested.
+   *
+   * @param remoteUrl        the remote URL sessions are being created against
+   * @param failureThreshold the consecutive failures that open a new breaker
+   * @param openDuration     how long a new breaker stays open before letting a trial through
+   * @return as {@link EndpointCircuitBreaker}
+   */
+  public static EndpointCircuitBreaker forEndpoint(URL remoteUrl, int failureThreshold,
+      Duration openDuration) {
+    return BREAKERS.computeIfAbsent(SessionAdmissionController.toEndpoint(remoteUrl),
+        endpoint -> new EndpointCircuitBreaker(endpoint, failureThreshold, openDuration));
+  }
+
+  /**
+   * Checks whether a session creation is allowed through.
+   *
+   * @throws WebDriverManagerException if the breaker is open, or half open with a trial in flight
+   */
+  public synchronized void beforeAttempt() {
+    if (state == State.CLOSED) {
+      return;
+    }
+    if (state == State.OPEN && System.nanoTime() - openedAt >= getOpenDuration().toNanos()) {
+      log.debug(String.format("Letting a trial session creation through to %s", getEndpoint()));
+      state = State.HALF_OPEN;
+      return;
+    }
+    throw new WebDriverManagerException(String.format(
+        "Failing fast since the circuit breaker for %s is open after %d consecutive session creation failures.",
+        getEndpoint(), consecutiveFailures));
+  }
+
+  /**
+   * Records a successful session creation, which closes the breaker.
+   */
+  public synchronized void recordSuccess() {
+    consecutiveFailures = 0;
+    state = State.CLOSED;
+  }
+
+  /**
+   * Records a failed session creation, opening the breaker once the failure threshold is reached.
+   */
+  public synchronized void recordFailure() {
+    consecutiveFailures++;
+    if (getFailureThreshold() <= 0) {
+      return;
+    }
+    if (state == State.HALF_OPEN || consecutiveFailures >= getFailureThreshold()) {
+      if (state != State.OPEN) {
+        log.error(String.format("Opening the circuit breaker for %s after %d consecutive failures",
+            getEndpoint(), consecutiveFailures));
+      }
+      state = State.OPEN;
+      openedAt = System.nanoTime();
+    }
+  }
+
+  /**
+   * Ends a trial session creation that failed before it reached the endpoint, like one that timed
+   * out waiting for admission. A half open breaker opens again without counting a failure, so the
+   * next trial is let through once the open duration has passed. Otherwise, nothing changes.
+   */
+  public synchronized void abortTrial() {
+    if (state == State.HALF_OPEN) {
+      state = State.OPEN;
+      openedAt = System.nanoTime();
+    }
+  }
+
+  /**
+   * @return true if session creation is currently failing fast
+   */
+  public synchronized boolean isOpen() {
+    return state == State.OPEN;
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.models.GridSessionRequest;
+import io.github.kgress.scaffold.models.GridSessionResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Looks up a new Grid session through the Grid test session API in the background, so starting a
+ * session doesn't wait on a round trip to the Grid hub. The lookup gives up after the registration
+ * timeout.
+ * <p>
+ * Lookups run on a bounded pool. When the Grid is slow and the pool and its queue are full, new
+ * lookups fail right away instead of piling up more threads.
+ */
+@Slf4j
+public class GridSessionRegistrar {
+
+  static final String GRID_TEST_SESSION_URI = "/grid/api/testsession";
+
+  private static final int MAX_THREADS = 4;
+  private static final int QUEUE_CAPACITY = 100;
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+  private static final Map<List<Object>, RestTemplate> TIMED_REST_TEMPLATES =
+      new ConcurrentHashMap<>();
+
+  @Getter(AccessLevel.PRIVATE)
+  private final RestTemplate seleniumGridRestTemplate;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration registrationTimeout;
+
+  public GridSessionRegistrar(RestTemplate seleniumGridRestTemplate, Duration registrationTimeout) {
+    this.seleniumGridRestTemplate = seleniumGridRestTemplate;
+    this.registrationTimeout = registrationTimeout;
+  }
+
+  /**
+   * Sends the Grid test session request for the session in the background.
+   *
+   * @param sessionId the id of the new Grid session
+   * @return a {@link CompletableFuture} that completes with the {@link GridSessionResponse}, or
+   * completes exceptionally if the request failed or didn't finish within the registration timeout
+   */
+  public CompletableFuture<GridSessionResponse> register(String sessionId) {
+    try {
+      return CompletableFuture.supplyAsync(() -> requestTestSession(sessionId), EXECUTOR)
+          .orTimeout(getRegistrationTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.debug(String.format("Skipping the Grid test session lookup for %s, %d lookups are already queued",
+          sessionId, EXECUTOR.getQueue().size()));
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns a copy of the {@link RestTemplate} whose requests time out after the registration
+   * timeout. Timing out the future with {@link CompletableFuture#orTimeout(long, TimeUnit)} doesn't
+   * stop the request, so the request has to time out on its own to free its thread. The copies are
+   * created once per template and timeout.
+   *
+   * @param seleniumGridRestTemplate the {@link RestTemplate} set up for the Grid
+   * @param registrationTimeout      the connect and read timeout of the requests
+   * @return as {@link RestTemplate}
+   */
+  public static RestTemplate withRequestTimeout(RestTemplate seleniumGridRestTemplate,
+      Duration registrationTimeout) {
+    return TIMED_REST_TEMPLATES.computeIfAbsent(List.of(seleniumGridRestTemplate, registrationTimeout),
+        key -> {
+          var requestFactory = new SimpleClientHttpRequestFactory();
+          requestFactory.setConnectTimeout((int) registrationTimeout.toMillis());
+          requestFactory.setReadTimeout((int) registrationTimeout.toMillis());
+          var restTemplate = new RestTemplate(requestFactory);
+          restTemplate.setMessageConverters(seleniumGridRestTemplate.getMessageConverters());
+          restTemplate.setUriTemplateHandler(seleniumGridRestTemplate.getUriTemplateHandler());
+          restTemplate.setErrorHandler(seleniumGridRestTemplate.getErrorHandler());
+          return restTemplate;
+        });
+  }
+
+  private static ThreadPoolExecutor createExecutor() {
+    var executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+        runnable -> {
+          var thread = new Thread(runnable,
+              "scaffold-grid-registration-" + THREAD_COUNT.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private GridSessionResponse requestTestSession(String sessionId) {
+    // Add the session id to the Grid request
+    var gridSessionRequest = new GridSessionRequest();
+    gridSessionRequest.setSession(sessionId);
+    var request = new HttpEntity<>(gridSessionRequest);
+
+    var fullPath = GRID_TEST_SESSION_URI + "?session=" + gridSessionRequest.getSession();
+    return getSeleniumGridRestTemplate().getForObject(fullPath, GridSessionResponse.class, request);
+  }
+}
@@ -0,0 +1,231 @@
+package io.github.kgress.scaffold;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.openqa.selenium.By;
+
+/**
+ * An immutable locator that keeps its strategy and selector apart, instead of recovering the
+ * selector from {@link By#toString()} every time it's needed. Combining a parent and a child
+ * locator works on the strategy and selector directly, and the combined locators are interned so
+ * deep component trees reuse them instead of building the same strings again. The {@link By} is
+ * only created when it's needed to find the element.
+ * <p>
+ * Every {@link BaseWebElement} parses its {@link By} into a locator once, see {@link
+ * BaseWebElement#getLocator()}.
+ */
+@EqualsAndHashCode(of = {"strategy", "selector"})
+public final class Locator {
+
+  /**
+   * The upper bound of interned combined locators. Past this, combined locators are still created
+   * but no longer interned, so a run that builds a very large amount of unique locators doesn't
+   * keep all of them around.
+   */
+  private static final int MAX_INTERNED_LOCATORS = 10000;
+  private static final Map<List<Locator>, Locator> COMBINED_LOCATORS = new ConcurrentHashMap<>();
+
+  @Getter
+  private final Strategy strategy;
+
+  @Getter
+  private final String selector;
+
+  private volatile By by;
+
+  private Locator(Strategy strategy, String selector, By by) {
+    this.strategy = strategy;
+    this.selector = selector;
+    this.by = by;
+  }
+
+  /**
+   * Creates a locator for a css selector.
+   *
+   * @param selector the css selector
+   * @return as {@link Locator}
+   */
+  public static Locator css(String selector) {
+    return new Locator(Strategy.CSS_SELECTOR, selector, null);
+  }
+
+  /**
+   * Creates a locator for an xpath.
+   *
+   * @param xpath the xpath
+   * @return as {@link Locator}
+   */
+  public static Locator xpath(String xpath) {
+    return new Locator(Strategy.XPATH, xpath, null);
+  }
+
+  /**
+   * Parses a {@link By} into a locator. A {@link By} type that Scaffold doesn't know about keeps
+   * the original {@link By} and has the {@link Strategy#OTHER} strategy.
+   *
+   * @param by the {@link By} to parse
+   * @return as {@link Locator}
+   */
+  public static Locator of(By by) {
+    var byString = by.toString();
+    var selector = byString.substring(byString.indexOf(" ") + 1);
+    return new Locator(Strategy.of(by), selector, by);
+  }
+
+  /**
+   * @return the locator as a {@link By}, created the first time it's requested
+   */
+  public By toBy() {
+    if (by == null) {
+      by = getStrategy().toBy(getSelector());
+    }
+    return by;
+  }
+
+  /**
+   * @return true if this is an xpath locator
+   */
+  public boolean isXPath() {
+    return getStrategy() == Strategy.XPATH;
+  }
+
+  /**
+   * Converts a locator that can be expressed as a css selector, like a tag name, id or class name,
+   * into a css selector locator. Cannot convert XPATH at this time.
+   *
+   * @return the css selector as {@link Locator}
+   */
+  public Locator toCss() {
+    switch (getStrategy()) {
+      case CSS_SELECTOR:
+        return this;
+      case TAG_NAME:
+        return css(getSelector());
+      case ID:
+        return css(String.format("#%s", getSelector()));
+      case CLASS_NAME:
+        return css(String.format(".%s", getSelector()));
+      case NAME:
+        return css(String.format("[name=%s]", getSelector()));
+      case LINK_TEXT:
+        return css(String.format("a[href=%s]", getSelector()));
+      case PARTIAL_LINK_TEXT:
+        return css(String.format("a[href~=%s]", getSelector()));
+      default:
+        throw new RuntimeException("Cannot convert XPATH to a CSS Selector");
+    }
+  }
+
+  /**
+   * Combines this locator, as the parent, with a child locator into a single locator. Both
+   * locators must either be xpath, or be of a type that can be converted into a css selector.
+   *
+   * @param child the child locator
+   * @return the combined {@link Locator}
+   */
+  public Locator descendant(Locator child) {
+    var key = List.of(this, child);
+    var combined = COMBINED_LOCATORS.get(key);
+    if (combined == null) {
+      combined = combine(this, child);
+      if (COMBINED_LOCATORS.size() < MAX_INTERNED_LOCATORS) {
+        var existing = COMBINED_LOCATORS.putIfAbsent(key, combined);
+        combined = existing != null ? existing : combined;
+      }
+    }
+    return combined;
+  }
+
+  /**
+   * Creates a locator for the element at an index among the elements this locator finds. The
+   * index is zero based.
+   *
+   * @param index the index of the element
+   * @return the indexed {@link Locator}
+   */
+  public Locator nth(int index) {
+    if (isXPath()) {
+      return xpath(String.format("%s[%s]", getSelector(), index + 1));
+    }
+    return css(String.format("%s:nth-child(%s)", getSelector(), index + 1));
+  }
+
+  @Override
+  public String toString() {
+    return toBy().toString();
+  }
+
+  private static Locator combine(Locator parent, Locator child) {
+    if (parent.isXPath() || child.isXPath()) {
+      if (!parent.isXPath() || !child.isXPath()) {
+        throw new RuntimeException(String.format(
+            "Both By locators must be of type CSS when combining. Parent: %s. Child: %s",
+            parent, child));
+      }
+      return xpath(String.format("%s %s", parent.getSelector(), child.getSelector()));
+    }
+    return css(String.format("%s %s", parent.toCss().getSelector(), child.toCss().getSelector()));
+  }
+
+  /**
+   * The strategies a {@link Locator} can find an element with.
+   */
+  public enum Strategy {
+    CSS_SELECTOR,
+    XPATH,
+    ID,
+    CLASS_NAME,
+    NAME,
+    TAG_NAME,
+    LINK_TEXT,
+    PARTIAL_LINK_TEXT,
+    OTHER;
+
+    private static Strategy of(By by) {
+      if (by instanceof By.ByCssSelector) {
+        return CSS_SELECTOR;
+      } else if (by instanceof By.ByXPath) {
+        return XPATH;
+      } else if (by instanceof By.ById) {
+        return ID;
+      } else if (by instanceof By.ByClassName) {
+        return CLASS_NAME;
+      } else if (by instanceof By.ByName) {
+        return NAME;
+      } else if (by instanceof By.ByTagName) {
+        return TAG_NAME;
+      } else if (by instanceof By.ByLinkText) {
+        return LINK_TEXT;
+      } else if (by instanceof By.ByPartialLinkText) {
+        return PARTIAL_LINK_TEXT;
+      }
+      return OTHER;
+    }
+
+    private By toBy(String selector) {
+      switch (this) {
+        case CSS_SELECTOR:
+          return By.cssSelector(selector);
+        case XPATH:
+          return By.xpath(selector);
+        case ID:
+          return By.id(selector);
+        case CLASS_NAME:
+          return By.className(selector);
+        case NAME:
+          return By.name(selector);
+        case TAG_NAME:
+          return By.tagName(selector);
+        case LINK_TEXT:
+          return By.linkText(selector);
+        case PARTIAL_LINK_TEXT:
+          return By.partialLinkText(selector);
+        default:
+          throw new IllegalStateException("A locator with an unknown strategy keeps its By");
+      }
+    }
+  }
+}
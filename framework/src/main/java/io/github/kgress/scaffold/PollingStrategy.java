@@ -0,0 +1,120 @@
+package io.github.kgress.scaffold;
+
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Decides how long a wait sleeps between two checks of its condition. A {@link WaitSpec} has one,
+ * and {@link AutomationWait} uses the strategy of its default {@link WaitSpec} for every wait that
+ * doesn't pass its own.
+ * <p>
+ * A fixed interval, like Selenium's default of 500 milliseconds, is slow to notice a condition
+ * that's met right away and checks a slow condition more often than it needs to. A {@link
+ * #backoff(List, double, long)} strategy checks quickly at first and then less and less often.
+ * <p>
+ * {@link AutomationWait} caches one wait per {@link WaitSpec}, so a custom strategy should
+ * implement equals and hash code when it's created for every wait.
+ */
+public interface PollingStrategy {
+
+  /**
+   * The polling strategy of a wait that doesn't set one, which matches Selenium's default.
+   */
+  PollingStrategy DEFAULT = fixed(500L);
+
+  /**
+   * @param poll the number of checks of the condition that have failed so far, starting at 1
+   * @return the amount of time to sleep before checking the condition again, in milliseconds
+   */
+  long getIntervalInMillis(int poll);
+
+  /**
+   * Creates a strategy that always sleeps for the same amount of time.
+   *
+   * @param intervalInMillis the amount of time to sleep between two checks, in milliseconds
+   * @return as {@link PollingStrategy}
+   */
+  static PollingStrategy fixed(long intervalInMillis) {
+    return new Fixed(intervalInMillis);
+  }
+
+  /**
+   * Creates a strategy that sleeps for each of the initial intervals in turn, and then multiplies
+   * the last one by the multiplier on every check until it reaches the ceiling. For example, 25, 50
+   * and 100 milliseconds with a multiplier of 2 and a ceiling of 1000 sleeps for 25, 50, 100, 200,
+   * 400, 800, 1000, 1000... milliseconds.
+   *
+   * @param initialIntervalsInMillis the intervals of the first checks, in milliseconds
+   * @param multiplier               the factor each interval past the initial ones grows by
+   * @param ceilingInMillis          the longest interval, in milliseconds
+   * @return as {@link PollingStrategy}
+   */
+  static PollingStrategy backoff(List<Long> initialIntervalsInMillis, double multiplier,
+      long ceilingInMillis) {
+    if (initialIntervalsInMillis.isEmpty()) {
+      throw new IllegalArgumentException("A backoff polling strategy needs at least one initial interval");
+    }
+    return new Backoff(List.copyOf(initialIntervalsInMillis), multiplier, ceilingInMillis);
+  }
+
+  /**
+   * A strategy that always sleeps for the same amount of time.
+   */
+  @Getter
+  @EqualsAndHashCode
+  final class Fixed implements PollingStrategy {
+
+    private final long intervalInMillis;
+
+    private Fixed(long intervalInMillis) {
+      this.intervalInMillis = intervalInMillis;
+    }
+
+    @Override
+    public long getIntervalInMillis(int poll) {
+      return intervalInMillis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("every %sms", intervalInMillis);
+    }
+  }
+
+  /**
+   * A strategy that sleeps for its initial intervals first and then backs off exponentially up to
+   * its ceiling.
+   */
+  @Getter
+  @EqualsAndHashCode
+  final class Backoff implements PollingStrategy {
+
+    private final List<Long> initialIntervalsInMillis;
+    private final double multiplier;
+    private final long ceilingInMillis;
+
+    private Backoff(List<Long> initialIntervalsInMillis, double multiplier, long ceilingInMillis) {
+      this.initialIntervalsInMillis = initialIntervalsInMillis;
+      this.multiplier = multiplier;
+      this.ceilingInMillis = ceilingInMillis;
+    }
+
+    @Override
+    public long getIntervalInMillis(int poll) {
+      var initialPolls = initialIntervalsInMillis.size();
+      if (poll <= initialPolls) {
+        return Math.min(initialIntervalsInMillis.get(Math.max(poll, 1) - 1), ceilingInMillis);
+      }
+      var lastInitialInterval = initialIntervalsInMillis.get(initialPolls - 1);
+      var interval = lastInitialInterval * Math.pow(multiplier, poll - initialPolls);
+      return (long) Math.min(interval, ceilingInMillis);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("backoff %sms x%s up to %sms", initialIntervalsInMillis, multiplier,
+          ceilingInMillis);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.kgress.scaffold;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * A {@link WebDriverWait} that sleeps for the intervals of a {@link PollingStrategy} instead of a
+ * fixed interval. {@link AutomationWait} shares one per {@link WaitSpec} between threads, so the
+ * number of polls of a wait is counted per thread, and a wait started from inside the condition of
+ * another wait counts its own polls.
+ */
+class PollingWebDriverWait extends WebDriverWait {
+
+  private final PollingSleeper pollingSleeper;
+
+  PollingWebDriverWait(WebDriver webDriver, long timeoutInSeconds, PollingStrategy pollingStrategy) {
+    this(webDriver, timeoutInSeconds, new PollingSleeper(pollingStrategy));
+  }
+
+  private PollingWebDriverWait(WebDriver webDriver, long timeoutInSeconds,
+      PollingSleeper pollingSleeper) {
+    super(webDriver, Clock.systemDefaultZone(), pollingSleeper, timeoutInSeconds,
+        pollingSleeper.getPollingStrategy().getIntervalInMillis(1));
+    this.pollingSleeper = pollingSleeper;
+  }
+
+  @Override
+  public <V> V until(Function<? super WebDriver, V> isTrue) {
+    var previousPolls = pollingSleeper.start();
+    try {
+      return super.until(isTrue);
+    } finally {
+      pollingSleeper.restore(previousPolls);
+    }
+  }
+
+  /**
+   * Ignores the fixed interval {@link WebDriverWait} asks it to sleep for and sleeps for the next
+   * interval of the {@link PollingStrategy}.
+   */
+  private static class PollingSleeper implements Sleeper {
+
+    private final PollingStrategy pollingStrategy;
+    private final ThreadLocal<Integer> polls = ThreadLocal.withInitial(() -> 0);
+
+    private PollingSleeper(PollingStrategy pollingStrategy) {
+      this.pollingStrategy = pollingStrategy;
+    }
+
+    private PollingStrategy getPollingStrategy() {
+      return pollingStrategy;
+    }
+
+    private int start() {
+      var previousPolls = polls.get();
+      polls.set(0);
+      return previousPolls;
+    }
+
+    private void restore(int previousPolls) {
+      polls.set(previousPolls);
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+      var poll = polls.get() + 1;
+      polls.set(poll);
+      Thread.sleep(pollingStrategy.getIntervalInMillis(poll));
+    }
+  }
+}
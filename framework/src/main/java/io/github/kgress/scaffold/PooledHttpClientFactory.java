@@ -0,0 +1,198 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.RemoteHttpClient;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+/**
+ * An {@link HttpClient.Factory} that sends the commands of every remote session against an
+ * endpoint through one pooled, keep-alive Apache HTTP client. Sessions share open connections
+ * instead of each one setting up its own client, connections and TLS handshakes.
+ * <p>
+ * There is one factory per remote endpoint for the lifetime of the JVM. User info in the remote URL,
+ * like the Sauce username and access key, is sent as basic authentication.
+ */
+public class PooledHttpClientFactory implements HttpClient.Factory {
+
+  private static final Map<String, PooledHttpClientFactory> FACTORIES = new ConcurrentHashMap<>();
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration idleTimeout;
+
+  @Getter
+  private final PoolingHttpClientConnectionManager connectionManager;
+
+  private final CloseableHttpClient httpClient;
+
+  public PooledHttpClientFactory(int maxTotalConnections, int maxConnectionsPerRoute,
+      Duration idleTimeout, Duration connectionTimeout, Duration readTimeout) {
+    this.idleTimeout = idleTimeout;
+    this.connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxTotalConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+    var requestConfig = RequestConfig.custom()
+        .setConnectTimeout((int) connectionTimeout.toMillis())
+        .setSocketTimeout((int) readTimeout.toMillis())
+        .build();
+    this.httpClient = HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .evictExpiredConnections()
+        .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .disableRedirectHandling()
+        .disableCookieManagement()
+        .build();
+  }
+
+  /**
+   * Returns the factory for the endpoint, creating it the first time it's requested.
+   *
+   * @param remoteUrl        the remote URL sessions are being created against
+   * @param remoteHttpClient the configuration for a new factory
+   * @return as {@link PooledHttpClientFactory}
+   */
+  static PooledHttpClientFactory forEndpoint(URL remoteUrl, RemoteHttpClient remoteHttpClient) {
+    return FACTORIES.computeIfAbsent(SessionAdmissionController.toEndpoint(remoteUrl),
+        endpoint -> new PooledHttpClientFactory(
+            remoteHttpClient.getMaxTotalConnections(),
+            remoteHttpClient.getMaxConnectionsPerRoute(),
+            Duration.ofSeconds(remoteHttpClient.getIdleTimeoutInSeconds()),
+            Duration.ofSeconds(remoteHttpClient.getConnectionTimeoutInSeconds()),
+            Duration.ofSeconds(remoteHttpClient.getReadTimeoutInSeconds())));
+  }
+
+  /**
+   * The timeouts on the returned builder are ignored, since every client shares the timeouts this
+   * factory was created with.
+   *
+   * @return as {@link HttpClient.Builder}
+   */
+  @Override
+  public HttpClient.Builder builder() {
+    return new HttpClient.Builder() {
+      @Override
+      public HttpClient createClient(URL url) {
+        return new PooledHttpClient(url);
+      }
+    };
+  }
+
+  /**
+   * Closes connections that have expired or have been idle past the idle timeout. Selenium calls
+   * this when a session is quit.
+   */
+  @Override
+  public void cleanupIdleClients() {
+    connectionManager.closeExpiredConnections();
+    connectionManager.closeIdleConnections(getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * An {@link HttpClient} for a single session that sends its commands through the shared client.
+   */
+  private class PooledHttpClient implements HttpClient {
+
+    private final String baseUrl;
+    private final String authorization;
+
+    private PooledHttpClient(URL url) {
+      var port = url.getPort() == -1 ? "" : ":" + url.getPort();
+      var path = url.getPath().endsWith("/")
+          ? url.getPath().substring(0, url.getPath().length() - 1)
+          : url.getPath();
+      this.baseUrl = url.getProtocol() + "://" + url.getHost() + port + path;
+      this.authorization = url.getUserInfo() == null ? null : "Basic " + Base64.getEncoder()
+          .encodeToString(URLDecoder.decode(url.getUserInfo(), StandardCharsets.UTF_8)
+              .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) throws IOException {
+      var apacheRequest = toApacheRequest(request);
+      try (var apacheResponse = httpClient.execute(apacheRequest)) {
+        var response = new HttpResponse();
+        response.setStatus(apacheResponse.getStatusLine().getStatusCode());
+        for (var header : apacheResponse.getAllHeaders()) {
+          response.addHeader(header.getName(), header.getValue());
+        }
+        // Reading the entire entity hands the connection back to the pool
+        var entity = apacheResponse.getEntity();
+        response.setContent(entity == null ? new byte[0] : EntityUtils.toByteArray(entity));
+        response.setTargetHost(apacheRequest.getURI().getHost());
+        return response;
+      }
+    }
+
+    private HttpRequestBase toApacheRequest(HttpRequest request) throws IOException {
+      URI uri;
+      try {
+        var uriBuilder = new URIBuilder(baseUrl + request.getUri());
+        for (var name : request.getQueryParameterNames()) {
+          for (var value : request.getQueryParameters(name)) {
+            uriBuilder.addParameter(name, value);
+          }
+        }
+        uri = uriBuilder.build();
+      } catch (URISyntaxException e) {
+        throw new IOException("Unable to build the command URI for " + request.getUri(), e);
+      }
+
+      HttpRequestBase apacheRequest;
+      switch (request.getMethod()) {
+        case DELETE:
+          apacheRequest = new HttpDelete(uri);
+          break;
+        case GET:
+          apacheRequest = new HttpGet(uri);
+          break;
+        case POST:
+          var post = new HttpPost(uri);
+          post.setEntity(new ByteArrayEntity(request.consumeContentStream().readAllBytes()));
+          apacheRequest = post;
+          break;
+        default:
+          throw new IOException("Unsupported HTTP method: " + request.getMethod());
+      }
+
+      for (var name : request.getHeaderNames()) {
+        // The entity sets the content length
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+          continue;
+        }
+        for (var value : request.getHeaders(name)) {
+          apacheRequest.addHeader(name, value);
+        }
+      }
+      if (authorization != null) {
+        apacheRequest.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+      }
+      return apacheRequest;
+    }
+  }
+}
@@ -53,8 +53,8 @@ public class ScaffoldBaseTest {
     }
 
     /**
-     * Tears down a {@link WebDriver} instance by closing the driver and then removing the webdrivercontext
-     * from the thread. Removing the webdrivercontext is important to ensure that there is no bleed over of a {@link WebDriver}
+     * Tears down a {@link WebDriver} instance by removing the webdrivercontext from the thread, which closes the driver.
+     * Removing the webdrivercontext is important to ensure that there is no bleed over of a {@link WebDriver}
      * from one thread to another.
      * <p>
      * This tear down will occur after every test method.
@@ -66,7 +66,6 @@ public class ScaffoldBaseTest {
         var testName = testInfo.getDisplayName();
         log.debug(String.format("WebDriver teardown executing for test: %s", testName));
         try {
-            getWebDriverContext().getWebDriverManager().closeDriver();
             getTestContext().removeContext();
         } catch (Exception e) {
             throw new RuntimeException("Could not stop the Web Driver", e);
@@ -4,20 +4,59 @@ import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
 import org.openqa.selenium.remote.DriverCommand;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
 
 import java.net.URL;
+import java.util.Map;
 
 /**
  * Wrapper that allows for screenshots to be taken at will within a {@link RemoteWebDriver}.
  */
 public class ScreenshotRemoteDriver extends RemoteWebDriver implements TakesScreenshot {
 
+    /**
+     * The {@link System#nanoTime()} of the last command sent to the remote session. Every command goes through
+     * {@link #execute(String, Map)}, including the ones sent by raw {@link org.openqa.selenium.WebElement}s and by
+     * waits, so the {@link WebDriverSessionRegistry} doesn't consider a session idle while it's being used.
+     */
+    private volatile long lastCommandNanos = System.nanoTime();
+
     public ScreenshotRemoteDriver(URL remoteAddress, Capabilities desiredCapabilities) {
         super(remoteAddress, desiredCapabilities);
     }
 
+    public ScreenshotRemoteDriver(CommandExecutor executor, Capabilities desiredCapabilities) {
+        super(executor, desiredCapabilities);
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} of the last command sent to the remote session
+     */
+    public long getLastCommandNanos() {
+        return lastCommandNanos;
+    }
+
+    /**
+     * Records the time of the command before and after it's sent, so a long command like an async script doesn't
+     * make the session look idle while it runs.
+     *
+     * @param driverCommand the command to send
+     * @param parameters    the parameters of the command
+     * @return the {@link Response} of the command
+     */
+    @Override
+    protected Response execute(String driverCommand, Map<String, ?> parameters) {
+        lastCommandNanos = System.nanoTime();
+        try {
+            return super.execute(driverCommand, parameters);
+        } finally {
+            lastCommandNanos = System.nanoTime();
+        }
+    }
+
     /**
      * Captures a screenshot and returns it with the provided Type Reference.
      *
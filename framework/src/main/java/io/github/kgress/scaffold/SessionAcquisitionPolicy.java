@@ -0,0 +1,120 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.SessionCreation;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Decides how hard to try when creating a remote session. Failed attempts are retried with a
+ * jittered exponential backoff, and every attempt goes through the {@link EndpointCircuitBreaker}
+ * for the endpoint so a saturated Grid or Sauce account fails fast for every worker.
+ * <p>
+ * Only a {@link WebDriverException} from the session creation is retried and counted against the
+ * endpoint. Anything else, like a configuration error or an admission timeout, fails right away
+ * without counting against the endpoint.
+ */
+@Slf4j
+public class SessionAcquisitionPolicy {
+
+  @Getter(AccessLevel.PRIVATE)
+  private final int maxAttempts;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration initialBackoff;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration maxBackoff;
+
+  @Getter
+  private final EndpointCircuitBreaker circuitBreaker;
+
+  public SessionAcquisitionPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+      EndpointCircuitBreaker circuitBreaker) {
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  /**
+   * Creates the policy for the endpoint from the {@link SessionCreation} configuration.
+   *
+   * @param remoteUrl       the remote URL sessions are being created against
+   * @param sessionCreation the session creation configuration
+   * @return as {@link SessionAcquisitionPolicy}
+   */
+  static SessionAcquisitionPolicy forEndpoint(URL remoteUrl, SessionCreation sessionCreation) {
+    var circuitBreaker = EndpointCircuitBreaker.forEndpoint(remoteUrl,
+        sessionCreation.getCircuitBreakerFailureThreshold(),
+        Duration.ofSeconds(sessionCreation.getCircuitBreakerOpenDurationInSeconds()));
+    return new SessionAcquisitionPolicy(sessionCreation.getMaxAttempts(),
+        Duration.ofMillis(sessionCreation.getInitialBackoffInMillis()),
+        Duration.ofMillis(sessionCreation.getMaxBackoffInMillis()),
+        circuitBreaker);
+  }
+
+  /**
+   * Runs the session creation, retrying failures until it succeeds, the attempts run out, or the
+   * circuit breaker opens. Only a {@link WebDriverException} is retried and recorded on the circuit
+   * breaker. Any other failure aborts a half open trial and is thrown right away.
+   *
+   * @param sessionCreation creates the new session
+   * @param <T>             the type of session being created
+   * @return the result of the session creation
+   */
+  public <T> T acquire(Supplier<T> sessionCreation) {
+    for (var attempt = 1; ; attempt++) {
+      getCircuitBreaker().beforeAttempt();
+      try {
+        var session = sessionCreation.get();
+        getCircuitBreaker().recordSuccess();
+        return session;
+      } catch (WebDriverException e) {
+        getCircuitBreaker().recordFailure();
+        if (attempt >= getMaxAttempts() || getCircuitBreaker().isOpen()) {
+          throw e;
+        }
+        var backoff = getBackoff(attempt);
+        log.debug(String.format("Session creation attempt %d of %d against %s failed, retrying in %dms: %s",
+            attempt, getMaxAttempts(), getCircuitBreaker().getEndpoint(), backoff, e.getMessage()));
+        backOff(backoff);
+      } catch (RuntimeException e) {
+        // Anything else, like an admission timeout, never reached the endpoint, but still has to
+        // end a half open trial so the breaker doesn't stay half open for the rest of the run
+        getCircuitBreaker().abortTrial();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * The backoff doubles with every attempt up to the max backoff. Half of it is randomized so
+   * workers that failed together don't all retry together.
+   *
+   * @param attempt the attempt that just failed, starting at 1
+   * @return the backoff in milliseconds
+   */
+  long getBackoff(int attempt) {
+    var exponent = Math.min(attempt - 1, 30);
+    var backoff = Math.min(getMaxBackoff().toMillis(), getInitialBackoff().toMillis() << exponent);
+    var half = backoff / 2;
+    return half + ThreadLocalRandom.current().nextLong(half + 1);
+  }
+
+  private void backOff(long backoffInMillis) {
+    try {
+      Thread.sleep(backoffInMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverManagerException("Interrupted while backing off a session creation retry",
+          e);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds the number of session creations that can be in flight against a single remote endpoint.
+ * Workers past the limit queue in arrival order and give up once the admission timeout expires.
+ * <p>
+ * There is one controller per endpoint for the lifetime of the JVM. Endpoints are keyed by their
+ * URL without any user info, so Sauce credentials never end up in a key or a log message.
+ */
+@Slf4j
+public class SessionAdmissionController {
+
+  private static final Map<String, SessionAdmissionController> CONTROLLERS = new ConcurrentHashMap<>();
+
+  @Getter
+  private final String endpoint;
+
+  @Getter
+  private final int maxInFlight;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration admissionTimeout;
+
+  private final Semaphore permits;
+  private final AtomicLong admittedCount = new AtomicLong();
+  private final AtomicLong timedOutCount = new AtomicLong();
+  private final AtomicLong maxWaitInMillis = new AtomicLong();
+
+  public SessionAdmissionController(String endpoint, int maxInFlight, Duration admissionTimeout) {
+    if (maxInFlight < 1) {
+      throw new WebDriverManagerException(String.format(
+          "At least one in flight session creation must be allowed against %s. Check your session-creation configuration.",
+          endpoint));
+    }
+    this.endpoint = endpoint;
+    this.maxInFlight = maxInFlight;
+    this.admissionTimeout = admissionTimeout;
+    this.permits = new Semaphore(maxInFlight, true);
+  }
+
+  /**
+   * Returns the controller for the endpoint, creating it the first time it's requested.
+   *
+   * @param remoteUrl        the remote URL sessions are being created against
+   * @param maxInFlight      the max number of concurrent session creations for a new controller
+   * @param admissionTimeout how long a session creation will queue for a new controller
+   * @return as {@link SessionAdmissionController}
+   */
+  public static SessionAdmissionController forEndpoint(URL remoteUrl, int maxInFlight,
+      Duration admissionTimeout) {
+    return CONTROLLERS.computeIfAbsent(toEndpoint(remoteUrl),
+        endpoint -> new SessionAdmissionController(endpoint, maxInFlight, admissionTimeout));
+  }
+
+  /**
+   * @return every controller that has been created, keyed by endpoint
+   */
+  public static Map<String, SessionAdmissionController> getControllers() {
+    return Collections.unmodifiableMap(CONTROLLERS);
+  }
+
+  /**
+   * Strips the user info from the URL so it can safely be used as a key and in logging.
+   *
+   * @param remoteUrl the remote URL
+   * @return the endpoint as a {@link String}
+   */
+  static String toEndpoint(URL remoteUrl) {
+    var port = remoteUrl.getPort() == -1 ? "" : ":" + remoteUrl.getPort();
+    return remoteUrl.getProtocol() + "://" + remoteUrl.getHost() + port + remoteUrl.getPath();
+  }
+
+  /**
+   * Waits for a free slot against the endpoint and then runs the session creation.
+   *
+   * @param sessionCreation creates the new session
+   * @param <T>             the type of session being created
+   * @return the result of the session creation
+   * @throws WebDriverManagerException if a slot doesn't free up within the admission timeout
+   */
+  public <T> T admit(Supplier<T> sessionCreation) {
+    var queuedAt = System.nanoTime();
+    acquire();
+    var waitInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt);
+    maxWaitInMillis.accumulateAndGet(waitInMillis, Math::max);
+    admittedCount.incrementAndGet();
+    log.debug(String.format("Session creation admitted against %s after waiting %dms", getEndpoint(),
+        waitInMillis));
+    try {
+      return sessionCreation.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * @return the number of session creations currently running against the endpoint
+   */
+  public int getInFlightCount() {
+    return getMaxInFlight() - permits.availablePermits();
+  }
+
+  /**
+   * @return the number of session creations waiting for a free slot
+   */
+  public int getQueuedCount() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * @return the number of session creations that have been admitted
+   */
+  public long getAdmittedCount() {
+    return admittedCount.get();
+  }
+
+  /**
+   * @return the number of session creations that gave up waiting for a free slot
+   */
+  public long getTimedOutCount() {
+    return timedOutCount.get();
+  }
+
+  /**
+   * @return the longest time, in milliseconds, a session creation has waited for a free slot
+   */
+  public long getMaxWaitInMillis() {
+    return maxWaitInMillis.get();
+  }
+
+  private void acquire() {
+    try {
+      if (!permits.tryAcquire(getAdmissionTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        timedOutCount.incrementAndGet();
+        throw new WebDriverManagerException(String.format(
+            "Timed out after %d seconds waiting to create a session against %s. %d session creations are in flight and %d are queued.",
+            getAdmissionTimeout().toSeconds(), getEndpoint(), getInFlightCount(), getQueuedCount()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverManagerException(
+          "Interrupted while waiting to create a session against " + getEndpoint(), e);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * Keeps the browser driver processes, like chromedriver, running for the lifetime of the JVM so a
+ * local session doesn't spawn a new driver process and allocate a new port for every test. Each
+ * test still gets its own browser session.
+ * <p>
+ * A chromedriver process serves any number of sessions, so every Chrome session shares one
+ * process. A geckodriver process only serves one session at a time, so Firefox sessions lease an
+ * idle geckodriver process and hand it back when the session is quit. Every driver process is
+ * stopped when the JVM shuts down.
+ * <p>
+ * Starting a driver process waits until it listens on its port, so new processes are started
+ * outside the lock that guards the idle processes. Firefox workers that each need a new
+ * geckodriver process start them in parallel, and Chrome workers that arrive while the shared
+ * chromedriver process is starting wait for that one instead of starting their own.
+ */
+@Slf4j
+public class SharedDriverService {
+
+  private static final Map<BrowserType, SharedDriverService> SERVICES = new ConcurrentHashMap<>();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(
+        () -> SERVICES.values().forEach(SharedDriverService::stop),
+        "scaffold-driver-service-shutdown"));
+  }
+
+  @Getter
+  private final BrowserType browserType;
+
+  /**
+   * Whether a single driver process can serve more than one session at a time.
+   */
+  @Getter
+  private final boolean multiSession;
+
+  private final Supplier<DriverService> serviceFactory;
+  private final Deque<DriverService> idleServices = new ArrayDeque<>();
+  private final Set<DriverService> startedServices = ConcurrentHashMap.newKeySet();
+
+  /**
+   * The shared process of a multi session service while it's starting, or null.
+   */
+  private CompletableFuture<DriverService> startingService;
+
+  public SharedDriverService(BrowserType browserType, boolean multiSession,
+      Supplier<DriverService> serviceFactory) {
+    this.browserType = browserType;
+    this.multiSession = multiSession;
+    this.serviceFactory = serviceFactory;
+  }
+
+  /**
+   * Whether sessions for the browser type can be started against a shared driver process.
+   *
+   * @param browserType the {@link BrowserType} of the test run
+   * @return true if the browser type is supported
+   */
+  public static boolean isSupported(BrowserType browserType) {
+    return browserType == BrowserType.CHROME || browserType == BrowserType.FIREFOX;
+  }
+
+  /**
+   * Returns the shared driver service for the browser type, creating it the first time it's
+   * requested.
+   *
+   * @param browserType the {@link BrowserType} of the test run
+   * @return as {@link SharedDriverService}
+   */
+  static SharedDriverService forBrowser(BrowserType browserType) {
+    return SERVICES.computeIfAbsent(browserType, type -> {
+      switch (type) {
+        case CHROME:
+          return new SharedDriverService(type, true, ChromeDriverService::createDefaultService);
+        case FIREFOX:
+          return new SharedDriverService(type, false, GeckoDriverService::createDefaultService);
+        default:
+          throw new WebDriverManagerException(
+              "A shared driver service is not supported for browser type: " + type);
+      }
+    });
+  }
+
+  /**
+   * Starts a new browser session against a running driver process. The driver process is handed
+   * back when the session is quit.
+   *
+   * @param browserOptions the capabilities of the new session
+   * @return the session as {@link RemoteWebDriver}
+   */
+  public RemoteWebDriver startSession(Capabilities browserOptions) {
+    var driverService = lease();
+    try {
+      return new ServiceBoundRemoteDriver(this, driverService, browserOptions);
+    } catch (RuntimeException e) {
+      release(driverService);
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of driver processes that are currently running
+   */
+  public int getStartedCount() {
+    return startedServices.size();
+  }
+
+  /**
+   * Stops every driver process.
+   */
+  synchronized void stop() {
+    startedServices.forEach(this::stopQuietly);
+    startedServices.clear();
+    idleServices.clear();
+  }
+
+  private DriverService lease() {
+    CompletableFuture<DriverService> serviceStart;
+    synchronized (this) {
+      var idleService = pollIdleService();
+      if (idleService != null) {
+        return idleService;
+      }
+      if (!isMultiSession()) {
+        serviceStart = null;
+      } else if (startingService != null) {
+        serviceStart = startingService;
+      } else {
+        startingService = new CompletableFuture<>();
+        serviceStart = null;
+      }
+    }
+
+    if (serviceStart != null) {
+      // Another worker is starting the shared process, so wait for that one
+      try {
+        return serviceStart.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    }
+    return startService();
+  }
+
+  /**
+   * Takes a running idle process, discarding any that died.
+   *
+   * @return as {@link DriverService}, or null if there's no running idle process
+   */
+  private synchronized DriverService pollIdleService() {
+    while (!idleServices.isEmpty()) {
+      var driverService = isMultiSession() ? idleServices.peek() : idleServices.pop();
+      if (driverService.isRunning()) {
+        return driverService;
+      }
+      // The driver process died, so drop it and try the next one
+      log.debug(String.format("%s driver process at %s is no longer running, discarding it",
+          getBrowserType().getBrowserName(), driverService.getUrl()));
+      idleServices.remove(driverService);
+      startedServices.remove(driverService);
+    }
+    return null;
+  }
+
+  private synchronized void release(DriverService driverService) {
+    if (!isMultiSession() && startedServices.contains(driverService)
+        && !idleServices.contains(driverService)) {
+      idleServices.push(driverService);
+    }
+  }
+
+  /**
+   * Starts a new driver process without holding the lock, and then adds it to the started
+   * processes. The shared process of a multi session service is also made idle, and handed to the
+   * workers that waited on it.
+   *
+   * @return the started process as {@link DriverService}
+   */
+  private DriverService startService() {
+    DriverService driverService;
+    try {
+      driverService = serviceFactory.get();
+      driverService.start();
+    } catch (IOException | RuntimeException e) {
+      var exception = e instanceof RuntimeException ? (RuntimeException) e
+          : new WebDriverManagerException(String.format("Unable to start the %s driver process",
+              getBrowserType().getBrowserName()), e);
+      finishStart(null, exception);
+      throw exception;
+    }
+    finishStart(driverService, null);
+    log.debug(String.format("Started shared %s driver process at %s",
+        getBrowserType().getBrowserName(), driverService.getUrl()));
+    return driverService;
+  }
+
+  private synchronized void finishStart(DriverService driverService, RuntimeException exception) {
+    if (driverService != null) {
+      startedServices.add(driverService);
+    }
+    if (!isMultiSession()) {
+      return;
+    }
+    if (driverService != null) {
+      idleServices.push(driverService);
+    }
+    var serviceStart = startingService;
+    startingService = null;
+    if (serviceStart != null) {
+      if (exception != null) {
+        serviceStart.completeExceptionally(exception);
+      } else {
+        serviceStart.complete(driverService);
+      }
+    }
+  }
+
+  private void stopQuietly(DriverService driverService) {
+    try {
+      driverService.stop();
+    } catch (RuntimeException e) {
+      log.debug("Unable to stop driver process: " + getStackTrace(e));
+    }
+  }
+
+  /**
+   * A session started against a shared driver process, which hands the driver process back when
+   * the session is quit.
+   */
+  private static class ServiceBoundRemoteDriver extends ScreenshotRemoteDriver {
+
+    private final SharedDriverService sharedDriverService;
+    private final DriverService driverService;
+
+    private ServiceBoundRemoteDriver(SharedDriverService sharedDriverService,
+        DriverService driverService, Capabilities browserOptions) {
+      super(driverService.getUrl(), browserOptions);
+      this.sharedDriverService = sharedDriverService;
+      this.driverService = driverService;
+    }
+
+    @Override
+    public void quit() {
+      try {
+        super.quit();
+      } finally {
+        sharedDriverService.release(driverService);
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.kgress.scaffold;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * An immutable description of a single wait: how long to wait, how to poll the condition, and which
+ * exceptions to ignore while polling. {@link AutomationWait} caches one {@link WebDriverWait} per spec, so
+ * every wait with the same spec reuses the same {@link WebDriverWait} and waits with a different timeout never
+ * change the timeout of any other wait.
+ * <p>
+ * Specs are created from a timeout and adjusted with the {@code with} methods, which return a new spec:
+ * <pre>{@code
+ *      WaitSpec.of(10L).withPollingIntervalInMillis(100L).ignoring(StaleElementReferenceException.class);
+ * }
+ * </pre>
+ */
+@EqualsAndHashCode
+public final class WaitSpec {
+
+  @Getter
+  private final long timeoutInSeconds;
+
+  @Getter
+  private final PollingStrategy pollingStrategy;
+
+  /**
+   * The exceptions ignored while polling. A {@link WebDriverWait} always ignores {@link NotFoundException}.
+   */
+  @Getter
+  private final Set<Class<? extends Throwable>> ignoredExceptions;
+
+  private WaitSpec(long timeoutInSeconds, PollingStrategy pollingStrategy,
+      Set<Class<? extends Throwable>> ignoredExceptions) {
+    this.timeoutInSeconds = timeoutInSeconds;
+    this.pollingStrategy = pollingStrategy;
+    this.ignoredExceptions = Set.copyOf(ignoredExceptions);
+  }
+
+  /**
+   * Creates a spec that waits for the given timeout, polling with {@link PollingStrategy#DEFAULT} and ignoring
+   * {@link NotFoundException}.
+   *
+   * @param timeoutInSeconds the timeout in seconds
+   * @return as {@link WaitSpec}
+   */
+  public static WaitSpec of(long timeoutInSeconds) {
+    return new WaitSpec(timeoutInSeconds, PollingStrategy.DEFAULT, Set.of(NotFoundException.class));
+  }
+
+  /**
+   * @param timeoutInSeconds the timeout in seconds
+   * @return a copy of this spec with the given timeout
+   */
+  public WaitSpec withTimeoutInSeconds(long timeoutInSeconds) {
+    if (timeoutInSeconds == getTimeoutInSeconds()) {
+      return this;
+    }
+    return new WaitSpec(timeoutInSeconds, getPollingStrategy(), getIgnoredExceptions());
+  }
+
+  /**
+   * @param pollingIntervalInMillis the time between two polls of the condition, in milliseconds
+   * @return a copy of this spec that polls at the given fixed interval
+   */
+  public WaitSpec withPollingIntervalInMillis(long pollingIntervalInMillis) {
+    return withPollingStrategy(PollingStrategy.fixed(pollingIntervalInMillis));
+  }
+
+  /**
+   * @param pollingStrategy the {@link PollingStrategy} that decides how long to sleep between two polls
+   * @return a copy of this spec with the given polling strategy
+   */
+  public WaitSpec withPollingStrategy(PollingStrategy pollingStrategy) {
+    if (pollingStrategy.equals(getPollingStrategy())) {
+      return this;
+    }
+    return new WaitSpec(getTimeoutInSeconds(), pollingStrategy, getIgnoredExceptions());
+  }
+
+  /**
+   * @param exceptions the exceptions to ignore while polling, in addition to the ones this spec already ignores
+   * @return a copy of this spec that also ignores the given exceptions
+   */
+  @SafeVarargs
+  public final WaitSpec ignoring(Class<? extends Throwable>... exceptions) {
+    var ignoredExceptions = new HashSet<>(getIgnoredExceptions());
+    ignoredExceptions.addAll(Arrays.asList(exceptions));
+    return new WaitSpec(getTimeoutInSeconds(), getPollingStrategy(), ignoredExceptions);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("WaitSpec(timeout=%ss, polling=%s, ignoring=%s)", getTimeoutInSeconds(),
+        getPollingStrategy(), getIgnoredExceptions());
+  }
+}
@@ -0,0 +1,335 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Records how long every {@link AutomationWait} wait took against its timeout, so the waits that
+ * spend the most time, or come closest to timing out, can be found after a run.
+ * <p>
+ * Each thread records into its own {@link Recorder}, so recording a wait doesn't contend with the
+ * other test threads. Waits are aggregated into a {@link Histogram} per test, condition and
+ * locator, and the report of the run, sorted by the total time spent waiting, is exported by the
+ * {@link WaitTelemetryListener} when the test plan finishes. A wait that's started from inside the
+ * condition of another wait is part of the outer wait and isn't recorded on its own.
+ */
+@Slf4j
+public class WaitTelemetry {
+
+  /**
+   * The upper bounds of the histogram buckets, in milliseconds. Waits longer than the last bound
+   * are counted in one more bucket.
+   */
+  static final long[] BUCKET_BOUNDS_IN_MILLIS = {10, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+  private static volatile WaitTelemetry instance;
+
+  /**
+   * The file the report is written to, or null to only log it.
+   */
+  private final String reportFile;
+
+  private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(this::createRecorder);
+
+  public WaitTelemetry() {
+    this(null);
+  }
+
+  /**
+   * @param reportFile the file to write the report to when it's exported, or null to only log it
+   */
+  public WaitTelemetry(String reportFile) {
+    this.reportFile = reportFile;
+  }
+
+  /**
+   * Returns the telemetry for the JVM, creating it the first time it's requested. The report is
+   * exported when the test plan finishes, see {@link #exportRunReport()}.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} for the run
+   * @return as {@link WaitTelemetry}
+   */
+  static WaitTelemetry getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (WaitTelemetry.class) {
+        if (instance == null) {
+          instance = new WaitTelemetry(desiredCapabilities.getWaitTelemetryReportFile());
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Runs a wait and records how long it took, how often it polled its condition, and whether the
+   * condition was met. A wait that's started while the current thread is already recording one
+   * is run without being recorded.
+   *
+   * @param testName         the name of the test the wait belongs to
+   * @param condition        a description of the condition being waited for
+   * @param locator          the locator of the element being waited on, or null
+   * @param timeoutInSeconds the timeout of the wait
+   * @param wait             the wait to run
+   * @param <T>              the type reference
+   * @return the result of the wait
+   */
+  public <T> T record(String testName, String condition, String locator, long timeoutInSeconds,
+      Supplier<T> wait) {
+    var currentRecorder = recorder.get();
+    if (currentRecorder.isWaiting()) {
+      return wait.get();
+    }
+    currentRecorder.startWait();
+    var start = System.nanoTime();
+    var outcome = Outcome.FAILED;
+    try {
+      var result = wait.get();
+      outcome = Outcome.MET;
+      return result;
+    } catch (TimeoutException e) {
+      outcome = Outcome.TIMED_OUT;
+      throw e;
+    } finally {
+      currentRecorder.finishWait(new Key(testName, condition, locator), System.nanoTime() - start,
+          TimeUnit.SECONDS.toNanos(timeoutInSeconds), outcome);
+    }
+  }
+
+  /**
+   * Counts a poll of the condition of the wait the current thread is recording.
+   */
+  public void countPoll() {
+    recorder.get().countPoll();
+  }
+
+  /**
+   * Merges the waits every thread has recorded so far.
+   *
+   * @return the histograms of the run, sorted by the total time spent waiting
+   */
+  public List<Map.Entry<Key, Histogram>> getHistograms() {
+    var histograms = new HashMap<Key, Histogram>();
+    for (var threadRecorder : recorders) {
+      threadRecorder.mergeInto(histograms);
+    }
+    return histograms.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<Key, Histogram> entry) -> entry.getValue().getTotalNanos()).reversed())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the report of the waits recorded so far, sorted by the total time spent waiting
+   */
+  public String getReport() {
+    var histograms = getHistograms();
+    var totalNanos = histograms.stream().mapToLong(entry -> entry.getValue().getTotalNanos()).sum();
+    var totalCount = histograms.stream().mapToLong(entry -> entry.getValue().getCount()).sum();
+    var report = new StringBuilder(String.format(
+        "Wait telemetry: %d waits, %d ms spent waiting%n", totalCount, toMillis(totalNanos)));
+    report.append(String.format("%10s %7s %8s %8s %8s %7s %9s  %s%n", "total ms", "waits",
+        "timeouts", "mean ms", "max ms", "polls", "max/limit", "test | condition | locator"));
+    for (var entry : histograms) {
+      var key = entry.getKey();
+      var histogram = entry.getValue();
+      report.append(String.format("%10d %7d %8d %8d %8d %7d %8d%%  %s | %s | %s%n",
+          toMillis(histogram.getTotalNanos()), histogram.getCount(), histogram.getTimeouts(),
+          toMillis(histogram.getTotalNanos() / histogram.getCount()),
+          toMillis(histogram.getMaxNanos()), histogram.getPolls(),
+          Math.round(histogram.getMaxShareOfTimeout() * 100), key.getTestName(),
+          key.getCondition(), key.getLocator()));
+      report.append(String.format("%10s %s%n", "", histogram.describeBuckets()));
+    }
+    return report.toString();
+  }
+
+  /**
+   * Exports the report of the run, when wait telemetry was enabled for any of its sessions.
+   */
+  static void exportRunReport() {
+    var waitTelemetry = instance;
+    if (waitTelemetry != null) {
+      waitTelemetry.exportReport();
+    }
+  }
+
+  /**
+   * Logs the report, and writes it to the report file when one is configured.
+   */
+  public void exportReport() {
+    var report = getReport();
+    log.info(report);
+    if (reportFile != null) {
+      try {
+        Files.writeString(Path.of(reportFile), report);
+      } catch (IOException e) {
+        log.error(String.format("Could not write the wait telemetry report to %s: %s", reportFile,
+            e.getMessage()));
+      }
+    }
+  }
+
+  private Recorder createRecorder() {
+    var threadRecorder = new Recorder();
+    recorders.add(threadRecorder);
+    return threadRecorder;
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  /**
+   * How a recorded wait ended.
+   */
+  public enum Outcome {
+    MET,
+    TIMED_OUT,
+    FAILED
+  }
+
+  /**
+   * The test, condition and locator waits are aggregated by.
+   */
+  @Getter
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  public static class Key {
+
+    private final String testName;
+    private final String condition;
+    private final String locator;
+  }
+
+  /**
+   * The aggregated waits of a single {@link Key}.
+   */
+  @Getter
+  public static class Histogram {
+
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private long polls;
+    private long timeouts;
+    private long failures;
+
+    /**
+     * The largest share of its timeout a single wait took, where 1 is a wait that took its whole
+     * timeout.
+     */
+    private double maxShareOfTimeout;
+
+    private final long[] buckets = new long[BUCKET_BOUNDS_IN_MILLIS.length + 1];
+
+    private void add(long elapsedNanos, long timeoutNanos, int waitPolls, Outcome outcome) {
+      count++;
+      totalNanos += elapsedNanos;
+      maxNanos = Math.max(maxNanos, elapsedNanos);
+      polls += waitPolls;
+      timeouts += outcome == Outcome.TIMED_OUT ? 1 : 0;
+      failures += outcome == Outcome.FAILED ? 1 : 0;
+      if (timeoutNanos > 0) {
+        maxShareOfTimeout = Math.max(maxShareOfTimeout, (double) elapsedNanos / timeoutNanos);
+      }
+      var elapsedMillis = toMillis(elapsedNanos);
+      var bucket = 0;
+      while (bucket < BUCKET_BOUNDS_IN_MILLIS.length
+          && elapsedMillis >= BUCKET_BOUNDS_IN_MILLIS[bucket]) {
+        bucket++;
+      }
+      buckets[bucket]++;
+    }
+
+    private void merge(Histogram other) {
+      count += other.count;
+      totalNanos += other.totalNanos;
+      maxNanos = Math.max(maxNanos, other.maxNanos);
+      polls += other.polls;
+      timeouts += other.timeouts;
+      failures += other.failures;
+      maxShareOfTimeout = Math.max(maxShareOfTimeout, other.maxShareOfTimeout);
+      for (var bucket = 0; bucket < buckets.length; bucket++) {
+        buckets[bucket] += other.buckets[bucket];
+      }
+    }
+
+    /**
+     * @return the number of waits in each bucket, from the shortest to the longest
+     */
+    public long[] getBuckets() {
+      return Arrays.copyOf(buckets, buckets.length);
+    }
+
+    private String describeBuckets() {
+      var description = new StringBuilder();
+      for (var bucket = 0; bucket < buckets.length; bucket++) {
+        if (buckets[bucket] == 0) {
+          continue;
+        }
+        var label = bucket < BUCKET_BOUNDS_IN_MILLIS.length
+            ? "<" + BUCKET_BOUNDS_IN_MILLIS[bucket] + "ms"
+            : ">=" + BUCKET_BOUNDS_IN_MILLIS[bucket - 1] + "ms";
+        description.append(String.format("%s:%d ", label, buckets[bucket]));
+      }
+      return description.toString().trim();
+    }
+  }
+
+  /**
+   * The waits of a single thread. Only its thread records into it, so the lock is only contended
+   * while a report is being created.
+   */
+  private static class Recorder {
+
+    private final Map<Key, Histogram> histograms = new HashMap<>();
+    private boolean waiting;
+    private int polls;
+
+    private boolean isWaiting() {
+      return waiting;
+    }
+
+    private void startWait() {
+      waiting = true;
+      polls = 0;
+    }
+
+    private void countPoll() {
+      if (waiting) {
+        polls++;
+      }
+    }
+
+    private synchronized void finishWait(Key key, long elapsedNanos, long timeoutNanos,
+        Outcome outcome) {
+      waiting = false;
+      histograms.computeIfAbsent(key, newKey -> new Histogram())
+          .add(elapsedNanos, timeoutNanos, polls, outcome);
+    }
+
+    private synchronized void mergeInto(Map<Key, Histogram> merged) {
+      histograms.forEach((key, histogram) ->
+          merged.computeIfAbsent(key, newKey -> new Histogram()).merge(histogram));
+    }
+  }
+}
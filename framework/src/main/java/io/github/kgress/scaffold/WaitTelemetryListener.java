@@ -0,0 +1,17 @@
+package io.github.kgress.scaffold;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Exports the {@link WaitTelemetry} report when the test plan finishes, while logging is still
+ * running, instead of from a JVM shutdown hook. It's registered with the JUnit Platform launcher
+ * through {@code META-INF/services}, so it doesn't need to be added to a test.
+ */
+public class WaitTelemetryListener implements TestExecutionListener {
+
+  @Override
+  public void testPlanExecutionFinished(TestPlan testPlan) {
+    WaitTelemetry.exportRunReport();
+  }
+}
@@ -1,5 +1,6 @@
 package io.github.kgress.scaffold;
 
+import io.github.kgress.scaffold.models.GridSessionResponse;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,6 +17,13 @@ public class WebDriverContext {
 
     @Getter @Setter public String testName;
 
+    /**
+     * The response from the Grid test session API for the current test's session, including the proxy id of the node
+     * running it. The lookup happens in the background, so this is null until the response arrives and for any run
+     * type other than Grid.
+     */
+    @Getter @Setter private volatile GridSessionResponse gridSessionResponse;
+
     public WebDriverContext(WebDriverManager webDriverManager, String testName) {
         this.webDriverManager = webDriverManager;
         this.testName = testName;
@@ -2,7 +2,6 @@ package io.github.kgress.scaffold;
 
 import static io.github.kgress.scaffold.models.enums.desktop.RunType.SAUCE;
 import static io.github.kgress.scaffold.models.enums.desktop.ScreenResolution.ScreenResolutionType.SAUCELABS;
-import static io.github.kgress.scaffold.models.enums.desktop.ScreenResolution.ScreenResolutionType.SELENIUM;
 import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateAwsLambdaDesiredCapabilities;
 import static io.github.kgress.scaffold.util.WebDriverValidationUtil.validateRequiredDesktopBrowserCapabilities;
@@ -13,35 +12,32 @@ import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigura
 import io.github.kgress.scaffold.environment.config.SeleniumGridServiceConfiguration;
 import io.github.kgress.scaffold.exception.WebDriverContextException;
 import io.github.kgress.scaffold.exception.WebDriverManagerException;
-import io.github.kgress.scaffold.models.GridSessionRequest;
 import io.github.kgress.scaffold.models.GridSessionResponse;
 import io.github.kgress.scaffold.models.enums.desktop.RunType;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.ie.InternetExplorerDriver;
-import org.openqa.selenium.ie.InternetExplorerOptions;
-import org.openqa.selenium.opera.OperaDriver;
-import org.openqa.selenium.opera.OperaOptions;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.openqa.selenium.safari.SafariDriver;
-import org.openqa.selenium.safari.SafariOptions;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -50,9 +46,10 @@ import org.springframework.web.client.RestTemplate;
  * multi-threaded tests to be able to seamlessly access their associated WebDriver instance
  * statically.
  * <p>
- * The startLock and closeLock properties: We want locks to open *and* close WebDriver instances
- * when we are using Selenium Grid as we do not want a large amount of open/close requests flooding
- * the hub at once.  This way, they will be processed serially.
+ * Remote session creation goes through a {@link SessionAdmissionController} per remote endpoint,
+ * which bounds the number of sessions being created at once so a large amount of parallel workers
+ * do not flood the hub. The closeLock property makes sure the driver for this manager is only
+ * closed once, even when the {@link WebDriverSessionRegistry} reaps it.
  * <p>
  * As of version 2.11.0, I've added some experimental sauce mobile emulator functionality. Sauce
  * uses Appium as the driver and, after some initial testing, it appears some devices (mostly older
@@ -75,11 +72,9 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class WebDriverManager {
 
-  private static final String GRID_TEST_SESSION_URI = "/grid/api/testsession";
   private static final String SCREEN_RESOLUTION_CAPABILITY = "screenResolution";
-
-  @Getter(AccessLevel.PRIVATE)
-  private final Object startLock = new Object();
+  private static final Map<CapabilityProfileKey, CapabilityProfile> CAPABILITY_PROFILES =
+      new ConcurrentHashMap<>();
 
   @Getter(AccessLevel.PRIVATE)
   private final Object closeLock = new Object();
@@ -88,7 +83,7 @@ public class WebDriverManager {
   private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
 
   @Getter(AccessLevel.PACKAGE)
-  private WebDriverWrapper webDriverWrapper;
+  private volatile WebDriverWrapper webDriverWrapper;
 
   @Getter(AccessLevel.PRIVATE)
   private final RestTemplate seleniumGridRestTemplate;
@@ -121,83 +116,231 @@ public class WebDriverManager {
       throw new WebDriverContextException(
           "Driver already exists. Try closing/quitting it before trying to initialize a new one");
     }
-    var webDriver = configureWebDriver(testName);
+    var webDriver = getSessionPool()
+        .map(pool -> pool.lease(() -> configureWebDriver(testName),
+            pooledWebDriver -> prepareStartedSession(pooledWebDriver, testName)))
+        .orElseGet(() -> startWebDriver(testName));
+    if (getDesiredCapabilities().getRunType() == RunType.GRID) {
+      registerGridSession((RemoteWebDriver) webDriver, testName);
+    }
     webDriverWrapper = new WebDriverWrapper(webDriver, getDesiredCapabilities().getWaitTimeoutInSeconds());
+    webDriverWrapper.setElementHandleCacheEnabled(getDesiredCapabilities().isCacheElementHandles());
+    webDriverWrapper.setFastClickEnabled(getDesiredCapabilities().isFastClick());
+    webDriverWrapper.setBatchPageVerificationEnabled(getDesiredCapabilities().isBatchPageVerification());
+    webDriverWrapper.setClickSettleStrategy(getDesiredCapabilities().getClickSettleStrategy());
+    webDriverWrapper.setNetworkIdleQuietPeriodInMillis(
+        getDesiredCapabilities().getNetworkIdleQuietPeriodInMillis());
+    webDriverWrapper.setBrowserConditionWaitEnabled(getDesiredCapabilities().isBrowserConditionWaits());
+    var waitPolling = getDesiredCapabilities().getWaitPolling();
+    if (waitPolling.isAdaptive()) {
+      webDriverWrapper.getAutomationWait().setPollingStrategy(PollingStrategy.backoff(
+          waitPolling.getInitialIntervalsInMillis(), waitPolling.getBackoffMultiplier(),
+          waitPolling.getCeilingInMillis()));
+    }
+    if (getDesiredCapabilities().isWaitTelemetry()) {
+      webDriverWrapper.getAutomationWait().setWaitTelemetry(
+          WaitTelemetry.getInstance(getDesiredCapabilities()));
+      webDriverWrapper.getAutomationWait().setTelemetryTestName(testName);
+    }
+    getSessionRegistry().ifPresent(registry -> registry.track(this, webDriverWrapper));
+  }
+
+  /**
+   * Sends the Grid test session request for the session in the background using the {@link
+   * RestTemplate} set up from {@link SeleniumGridServiceConfiguration}, so the test doesn't wait on
+   * the Grid hub. When the {@link GridSessionResponse} arrives, it's attached to the {@link
+   * WebDriverContext} of the current thread, as long as the context still belongs to this test.
+   *
+   * @param remoteWebDriver the Grid session for the current test
+   * @param testName        the name of the current test
+   */
+  private void registerGridSession(RemoteWebDriver remoteWebDriver, String testName) {
+    var webDriverContext = TestContext.baseContext().getWebDriverContext();
+    var registrationTimeout = Duration.ofSeconds(
+        getDesiredCapabilities().getSessionCreation().getGridRegistrationTimeoutInSeconds());
+    new GridSessionRegistrar(
+        GridSessionRegistrar.withRequestTimeout(getSeleniumGridRestTemplate(), registrationTimeout),
+        registrationTimeout)
+        .register(remoteWebDriver.getSessionId().toString())
+        .whenComplete((gridSessionResponse, throwable) -> {
+          if (throwable != null) {
+            log.error("Unable to call the Selenium Grid", throwable);
+          } else if (webDriverContext.getWebDriverManager() == this
+              && testName.equals(webDriverContext.getTestName())) {
+            log.debug(String.format("Grid session for test %s is running on proxy %s", testName,
+                gridSessionResponse == null ? null : gridSessionResponse.getProxyId()));
+            webDriverContext.setGridSessionResponse(gridSessionResponse);
+          }
+        });
   }
 
   /**
-   * Closes the current {@link WebDriver}.
+   * Closes the current {@link WebDriver}. Calling this more than once is safe, since the wrapper
+   * is cleared after the first call. The {@link WebDriverSessionRegistry} may call this from its
+   * reaper thread, so the wrapper is claimed under the closeLock to close the driver only once.
    * <p>
-   * 1. Check if the {@link WebDriverWrapper} is not null. If it's not null, proceed with the
-   * closing of the driver. 2. Quit the driver on the thread.
+   * 1. Claim the {@link WebDriverWrapper} if it's not null and stop tracking it. 2. Release the
+   * driver back to the {@link WebDriverSessionPool}, hand it off to the {@link WebDriverQuitter},
+   * or quit it on the thread, depending on the configuration.
    */
   void closeDriver() {
-    if (getWebDriverWrapper() != null) {
-      try {
-        synchronized (getCloseLock()) {
-          getWebDriverWrapper().quit();
-        }
-      } catch (Exception e) {
-        log.error("Error quitting browser: " + getStackTrace(e));
-      }
+    WebDriverWrapper closingWebDriverWrapper;
+    synchronized (getCloseLock()) {
+      closingWebDriverWrapper = webDriverWrapper;
       webDriverWrapper = null;
     }
+    if (closingWebDriverWrapper == null) {
+      return;
+    }
+    getSessionRegistry().ifPresent(registry -> registry.untrack(this));
+    try {
+      var sessionPool = getSessionPool();
+      if (sessionPool.isPresent()) {
+        sessionPool.get().release(closingWebDriverWrapper.getBaseWebDriver(),
+            closingWebDriverWrapper.getVisitedOrigins());
+      } else if (getDesiredCapabilities().getTeardown().isAsyncQuit()) {
+        WebDriverQuitter.getInstance(getDesiredCapabilities())
+            .quit(closingWebDriverWrapper.getBaseWebDriver());
+      } else {
+        closingWebDriverWrapper.quit();
+      }
+    } catch (Exception e) {
+      log.error("Error quitting browser: " + getStackTrace(e));
+    }
+  }
+
+  /**
+   * Returns the {@link WebDriverSessionRegistry} when reaping abandoned sessions is enabled. {@link
+   * RunType#UNIT} never tracks sessions since it doesn't create a browser.
+   *
+   * @return as {@link Optional} of {@link WebDriverSessionRegistry}
+   */
+  private Optional<WebDriverSessionRegistry> getSessionRegistry() {
+    if (!getDesiredCapabilities().getTeardown().isReapAbandonedSessions()
+        || getDesiredCapabilities().getRunType() == RunType.UNIT) {
+      return Optional.empty();
+    }
+    return Optional.of(WebDriverSessionRegistry.getInstance(getDesiredCapabilities()));
   }
 
   /**
-   * Checks the run type from {@link #getDesiredCapabilities()} and configures browser options.
-   * Afterwards, creates the {@link WebDriver} based on the browser options.
+   * Returns the {@link WebDriverSessionPool} for the configured {@link RunType} when the pooled
+   * session mode is enabled. {@link RunType#UNIT} never uses a pool since it doesn't create a
+   * browser.
+   *
+   * @return as {@link Optional} of {@link WebDriverSessionPool}
+   */
+  private Optional<WebDriverSessionPool> getSessionPool() {
+    if (!getDesiredCapabilities().getSessionPool().isEnabled()
+        || getDesiredCapabilities().getRunType() == RunType.UNIT) {
+      return Optional.empty();
+    }
+    return Optional.of(WebDriverSessionPool.forRunType(getDesiredCapabilities()));
+  }
+
+  /**
+   * Starts the {@link WebDriver} for the current test. When session pre-warming is enabled, the
+   * session warmed while the previous test on this thread was running is claimed, and the session
+   * for the next test on this thread starts warming in the background. The next test isn't known
+   * yet, so the session is warmed without the capabilities that identify a test, and the Sauce job
+   * is named after the test that claims it.
    *
    * @param testName the name of the test being executed
    * @return as {@link WebDriver}
    */
+  private WebDriver startWebDriver(String testName) {
+    if (!getDesiredCapabilities().isPreWarmSessions()
+        || getDesiredCapabilities().getRunType() == RunType.UNIT) {
+      return configureWebDriver(testName);
+    }
+    var webDriver = WebDriverPreWarmer.claim(() -> configureWebDriver(testName),
+        preWarmedWebDriver -> prepareStartedSession(preWarmedWebDriver, testName));
+    WebDriverPreWarmer.preWarm(() -> configureWebDriver(null));
+    return webDriver;
+  }
+
+  /**
+   * Prepares a session that was started for a different test before handing it to the current
+   * test, either because it was reused from the {@link WebDriverSessionPool} or started early by
+   * the {@link WebDriverPreWarmer}. Sauce names the job after the test that started the session, so
+   * the job is renamed to the current test. The session id setting is refreshed the same way {@link
+   * #configureRemoteDriver(MutableCapabilities)} sets it for a new session.
+   *
+   * @param webDriver the session being handed to the current test
+   * @param testName  the name of the current test
+   */
+  private void prepareStartedSession(WebDriver webDriver, String testName) {
+    var runType = getDesiredCapabilities().getRunType();
+    if (runType == SAUCE || runType == RunType.SAUCE_MOBILE_EMULATOR) {
+      ((JavascriptExecutor) webDriver).executeScript("sauce:job-name=" + testName);
+    }
+    if (runType == RunType.AWS_LAMBDA_REMOTE) {
+      TestContext.baseContext()
+          .addSetting("SESSION_ID", ((RemoteWebDriver) webDriver).getSessionId().toString());
+    }
+  }
+
+  /**
+   * Builds the {@link CapabilityProfile} for the configured {@link RunType} when the application
+   * context starts, so configuration errors fail the run right away instead of failing the first
+   * test on every worker.
+   */
+  @PostConstruct
+  void compileCapabilityProfileOnStartup() {
+    if (getDesiredCapabilities().getRunType() != RunType.UNIT) {
+      getCapabilityProfile();
+    }
+  }
+
+  /**
+   * Copies the browser options for a new session from the {@link CapabilityProfile} of the
+   * configured run type. Afterwards, creates the {@link WebDriver} based on the browser options.
+   *
+   * @param testName the name of the test being executed, or null for a pre-warmed session
+   * @return as {@link WebDriver}
+   */
   private WebDriver configureWebDriver(String testName) {
-    MutableCapabilities browserOptions;
     WebDriver webDriver;
     var runType = getDesiredCapabilities().getRunType(); // already null checked via lombok
-    var screenResolution = getDesiredCapabilities().getScreenResolution(); // already has default
 
     log.debug(String.format("Starting driver for test: %s", testName));
+    if (runType == RunType.UNIT) {
+      log.debug("Configuring mock browser for Scaffold unit testing.");
+      return null;
+    }
+    var capabilityProfile = getCapabilityProfile();
+    var browserOptions = capabilityProfile.newSessionCapabilities(testName);
     switch (runType) {
-      case UNIT:
-        log.debug("Configuring mock browser for Scaffold unit testing.");
-        webDriver = null;
-        break;
       case LOCAL:
-        browserOptions = configureLocalBrowserOptions();
-        webDriver = checkForRemoteUrl(browserOptions, runType);
-        break;
       case HEADLESS:
-        browserOptions = configureHeadlessChromeOptions();
         webDriver = checkForRemoteUrl(browserOptions, runType);
         break;
       case GRID:
         log.debug("Configuring remote browser for Grid.");
-        browserOptions = configureGridBrowserOptions();
-        browserOptions.setCapability(SCREEN_RESOLUTION_CAPABILITY,
-            screenResolution.getScreenShotResolutionAsString(SAUCELABS));
-        webDriver = createGridRemoteDriver(browserOptions);
+        webDriver = createRemoteWebDriver(browserOptions);
         break;
       case SAUCE:
         log.debug("Configuring remote browser for Sauce.");
-        browserOptions = configureSauceBrowserOptions();
-        webDriver = configureSauceRemoteBrowser(browserOptions, testName);
+        webDriver = startSauceRemoteBrowser(capabilityProfile.getRemoteUrl(), browserOptions);
         break;
       case SAUCE_MOBILE_EMULATOR:
         log.debug("Configuring remote browser for Sauce's Mobile Emulation");
-        browserOptions = configureMobileEmulatorOptions();
-        webDriver = configureSauceRemoteBrowser(browserOptions, testName);
+        webDriver = startSauceRemoteBrowser(capabilityProfile.getRemoteUrl(), browserOptions);
         break;
       case AWS_LAMBDA_LOCAL:
         log.debug("Configuring local browser for AWS Lambda");
-        browserOptions = configureAWSLambdaChromeOptions();
         webDriver = configureLocalDriver(browserOptions);
         break;
       case AWS_LAMBDA_REMOTE:
         log.debug("Configuring remote browser for AWS Lambda");
-        browserOptions = configureAWSLambdaChromeOptions();
         webDriver = configureRemoteDriver(browserOptions);
         break;
+      case CUSTOM:
+        log.debug(String.format("Configuring browser for custom run type %s",
+            getDesiredCapabilities().getCustomRunType()));
+        webDriver = DriverProviders.forCustomRunType(getDesiredCapabilities().getCustomRunType())
+            .startSession(browserOptions);
+        break;
       default:
         throw new WebDriverManagerException(String
             .format("Unknown run type: %s. Please check your configuration.",
@@ -207,6 +350,67 @@ public class WebDriverManager {
     return webDriver;
   }
 
+  /**
+   * Returns the {@link CapabilityProfile} for the configured {@link RunType}, building it the first
+   * time it's requested for this configuration. Profiles are cached by a snapshot of the values
+   * they're built from, so a change to any of them builds a new profile.
+   *
+   * @return as {@link CapabilityProfile}
+   */
+  private CapabilityProfile getCapabilityProfile() {
+    return CAPABILITY_PROFILES.computeIfAbsent(CapabilityProfileKey.of(getDesiredCapabilities()),
+        key -> compileCapabilityProfile());
+  }
+
+  /**
+   * Validates the configuration and builds the browser options for the configured {@link RunType}.
+   * Everything that is the same for every test is built here, once.
+   *
+   * @return as {@link CapabilityProfile}
+   */
+  private CapabilityProfile compileCapabilityProfile() {
+    MutableCapabilities browserOptions;
+    var remoteUrl = getDesiredCapabilities().getRemoteUrl();
+    var runType = getDesiredCapabilities().getRunType(); // already null checked via lombok
+    var screenResolution = getDesiredCapabilities().getScreenResolution(); // already has default
+
+    log.debug(String.format("Building capability profile for run type: %s", runType.getRunType()));
+    switch (runType) {
+      case LOCAL:
+        browserOptions = configureLocalBrowserOptions();
+        break;
+      case HEADLESS:
+        browserOptions = configureHeadlessChromeOptions();
+        break;
+      case GRID:
+        browserOptions = configureGridBrowserOptions();
+        browserOptions.setCapability(SCREEN_RESOLUTION_CAPABILITY,
+            screenResolution.getScreenShotResolutionAsString(SAUCELABS));
+        break;
+      case SAUCE:
+        browserOptions = configureSauceBrowserOptions();
+        remoteUrl = configureSauceOptions(browserOptions);
+        break;
+      case SAUCE_MOBILE_EMULATOR:
+        browserOptions = configureMobileEmulatorOptions();
+        remoteUrl = configureSauceOptions(browserOptions);
+        break;
+      case AWS_LAMBDA_LOCAL:
+      case AWS_LAMBDA_REMOTE:
+        browserOptions = configureAWSLambdaChromeOptions();
+        break;
+      case CUSTOM:
+        browserOptions = DriverProviders.forCustomRunType(getDesiredCapabilities().getCustomRunType())
+            .createBrowserOptions(getDesiredCapabilities());
+        break;
+      default:
+        throw new WebDriverManagerException(String
+            .format("Unknown run type: %s. Please check your configuration.",
+                runType.getRunType()));
+    }
+    return new CapabilityProfile(runType, browserOptions, remoteUrl);
+  }
+
   /**
    * Checks to see if a {@link RunType#LOCAL} or {@link RunType#HEADLESS} test configuration
    * includes a {@link DesiredCapabilitiesConfigurationProperties#getRemoteUrl()}. If it exists,
@@ -225,11 +429,31 @@ public class WebDriverManager {
       webDriver = createRemoteWebDriver(browserOptions);
     } else {
       log.debug(String.format("Configuring local browser for %s execution.", runType.getRunType()));
-      webDriver = configureLocalDriver(browserOptions);
+      webDriver = configureSharedServiceDriver(browserOptions)
+          .orElseGet(() -> configureLocalDriver(browserOptions));
     }
     return webDriver;
   }
 
+  /**
+   * Starts the local session against a {@link SharedDriverService} when it's enabled and supported
+   * for the browser type, so the test doesn't spawn its own driver process.
+   *
+   * @param browserOptions the browser options represented as {@link MutableCapabilities}
+   * @return the session as an {@link Optional} {@link WebDriver}, or empty if the session should
+   * be started with its own driver process
+   */
+  private Optional<WebDriver> configureSharedServiceDriver(MutableCapabilities browserOptions) {
+    var browserType = getDesiredCapabilities().getBrowserType();
+    if (!getDesiredCapabilities().isSharedDriverService()
+        || !SharedDriverService.isSupported(browserType)) {
+      return Optional.empty();
+    }
+    log.debug(String.format("Starting %s session against the shared driver service.",
+        browserType.getBrowserName()));
+    return Optional.of(SharedDriverService.forBrowser(browserType).startSession(browserOptions));
+  }
+
   /**
    * Configures browser options for a {@link RunType#LOCAL} test execution.
    *
@@ -263,17 +487,14 @@ public class WebDriverManager {
   }
 
   /**
-   * Configures browser options for a {@link RunType#GRID} test execution.
+   * Configures browser options for a {@link RunType#GRID} test execution. The uuid capability is
+   * set per session by {@link CapabilityProfile#newSessionCapabilities(String)}.
    *
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureGridBrowserOptions() {
     validateRequiredDesktopBrowserCapabilities(getDesiredCapabilities());
-    var browserOptions = configureDesktopBrowserOptions();
-    var uuid = TestContext.baseContext()
-        .getSetting(String.class, TestContextSetting.TEST_RUN_ID);
-    browserOptions.setCapability("uuid", uuid);
-    return browserOptions;
+    return configureDesktopBrowserOptions();
   }
 
   /**
@@ -386,45 +607,14 @@ public class WebDriverManager {
   }
 
   /**
-   * Helper method that creates {@link MutableCapabilities} based on the browser type.
+   * Helper method that creates {@link MutableCapabilities} based on the browser type, using the
+   * {@link DriverProvider} for the browser type.
    *
    * @return as {@link MutableCapabilities}
    */
   private MutableCapabilities configureDesktopBrowserOptions() {
-    MutableCapabilities browserOptions;
-    var screenResolution = getDesiredCapabilities().getScreenResolution(); // Has a default set
     var browserType = getDesiredCapabilities().getBrowserType(); // already null checked
-
-    switch (browserType) {
-      case CHROME:
-        browserOptions = new ChromeOptions().setAcceptInsecureCerts(true)
-            .addArguments(
-                "--window-size=" + screenResolution.getScreenShotResolutionAsString(SELENIUM));
-        break;
-      case SAFARI:
-        browserOptions = new SafariOptions();
-        break;
-      case FIREFOX:
-        browserOptions = new FirefoxOptions().setAcceptInsecureCerts(true)
-            .addArguments(
-                "--window-size=" + screenResolution.getScreenShotResolutionAsString(SELENIUM));
-        break;
-      case INTERNET_EXPLORER:
-        browserOptions = new InternetExplorerOptions();
-        break;
-      case EDGE:
-        browserOptions = new EdgeOptions();
-        break;
-      case OPERA:
-        browserOptions = new OperaOptions()
-            .addArguments(
-                "--window-size=" + screenResolution.getScreenShotResolutionAsString(SELENIUM));
-        break;
-      default:
-        throw new WebDriverManagerException(
-            String.format("Unknown browser type %s", browserType.toString()));
-    }
-    return browserOptions;
+    return DriverProviders.forBrowserType(browserType).createBrowserOptions(getDesiredCapabilities());
   }
 
   /**
@@ -449,10 +639,9 @@ public class WebDriverManager {
 
   /**
    * This helper method configures a {@link WebDriver} for local use. We are now using the updated
-   * W3C standardized browser drivers for creating the new {@link WebDriver}. In this case:
-   * <p>
-   * {@link ChromeDriver} {@link SafariDriver} {@link FirefoxDriver} {@link InternetExplorerDriver}
-   * {@link OperaDriver}
+   * W3C standardized browser drivers for creating the new {@link WebDriver}. The driver for the
+   * browser type, like the ChromeDriver or SafariDriver, is started by the {@link DriverProvider}
+   * for the browser type, so only the driver classes for the configured browser are loaded.
    * <p>
    * A local web driver execution requires the browser driver to be installed on your machine.
    * Selenium checks for the following system property: webdriver.chrome.driver=path/to/file. By
@@ -466,64 +655,11 @@ public class WebDriverManager {
    * @return the new {@link WebDriver}
    */
   private WebDriver configureLocalDriver(MutableCapabilities browserOptions) {
-    WebDriver localWebDriver;
-    var browserType = getDesiredCapabilities().getBrowserType();
+    var browserType = getDesiredCapabilities().getBrowserType(); // already null checked
 
     log.debug("Tests will be executed locally.");
-    switch (browserType) {
-      case CHROME:
-        log.debug("Chrome chosen as browser type.");
-        localWebDriver = new ChromeDriver((ChromeOptions) browserOptions);
-        break;
-      case SAFARI:
-        log.debug("Safari chosen as browser type.");
-        localWebDriver = new SafariDriver((SafariOptions) browserOptions);
-        break;
-      case FIREFOX:
-        log.debug("Firefox chosen as browser type.");
-        localWebDriver = new FirefoxDriver((FirefoxOptions) browserOptions);
-        break;
-      case INTERNET_EXPLORER:
-        log.debug("Internet Explorer chosen as browser type.");
-        localWebDriver = new InternetExplorerDriver((InternetExplorerOptions) browserOptions);
-        break;
-      case EDGE:
-        log.debug("Edge chosen as browser type.");
-        localWebDriver = new EdgeDriver((EdgeOptions) browserOptions);
-        break;
-      case OPERA:
-        log.debug("Opera chosen as browser type.");
-        localWebDriver = new OperaDriver((OperaOptions) browserOptions);
-        break;
-      default:
-        throw new WebDriverContextException(
-            "No browser or invalid browser type called for: " + browserType.toString());
-    }
-    return localWebDriver;
-  }
-
-  /**
-   * Pulls the session id and sends a new grid request using the {@link RestTemplate} set up from
-   * {@link SeleniumGridServiceConfiguration}.
-   *
-   * @param browserOptions the browser options represented as {@link MutableCapabilities}
-   * @return as {@link RemoteWebDriver}
-   */
-  private RemoteWebDriver createGridRemoteDriver(MutableCapabilities browserOptions) {
-    var remoteWebDriver = createRemoteWebDriver(browserOptions);
-    var sessionId = remoteWebDriver.getSessionId().toString();
-    try {
-      // Pull the session id and add it to the Grid request
-      var gridSessionRequest = new GridSessionRequest();
-      gridSessionRequest.setSession(sessionId);
-      var request = new HttpEntity<>(gridSessionRequest);
-
-      var fullPath = GRID_TEST_SESSION_URI + "?session=" + gridSessionRequest.getSession();
-      getSeleniumGridRestTemplate().getForObject(fullPath, GridSessionResponse.class, request);
-    } catch (Exception ex) {
-      log.error("Unable to call the Selenium Grid", ex);
-    }
-    return remoteWebDriver;
+    log.debug(String.format("%s chosen as browser type.", browserType.getBrowserName()));
+    return DriverProviders.forBrowserType(browserType).startSession(browserOptions);
   }
 
   /**
@@ -553,19 +689,15 @@ public class WebDriverManager {
    * to capabilities. Also the remote URL is a combination of the username, access key, and sauce
    * url. Additional information on this can be found here: https://wiki.saucelabs.com/display/DOCS/Getting+Started+with+Selenium+for+Automated+Website+Testing
    * <p>
-   * If any issue is discovered during the starting of this browser, we will throw a {@link
-   * WebDriverException} with a custom message.
+   * The name of the test is set per session by {@link CapabilityProfile#newSessionCapabilities(String)}.
    * <p>
    * TODO We also need to update report test pass/fail to sauce so it shows up as pass/fail on the
    * sauce UI
    *
    * @param browserOptions the desired capabilities we're adding on to
-   * @param testName       the information on the test that is being ran. This plugs in with Junit
-   *                       Jupiter annotations.
-   * @return the driver as {@link RemoteWebDriver}
+   * @return the sauce url as a {@link String}
    */
-  private RemoteWebDriver configureSauceRemoteBrowser(MutableCapabilities browserOptions,
-      String testName) {
+  private String configureSauceOptions(MutableCapabilities browserOptions) {
     validateRequiredSauceAuth(getDesiredCapabilities());
     var sauceCaps = new MutableCapabilities();
     var sauce = getDesiredCapabilities().getSauce();
@@ -585,34 +717,48 @@ public class WebDriverManager {
     var extendedDebugging = Optional.ofNullable(sauce.getExtendedDebugging());
     var capturePerformance = Optional.ofNullable(sauce.getCapturePerformance());
 
-    try {
-      // Required
-      sauceCaps.setCapability("username", username);
-      sauceCaps.setCapability("accessKey", accessKey);
-      sauceCaps.setCapability("name", testName);
-
-      // Since we've added mobile emulation, we need to make sure screen resolution is not set
-      // for a mobile emulation sauce configuration. Otherwise, set the appium version capability
-      if (getDesiredCapabilities().getRunType() == SAUCE) {
-        sauceCaps.setCapability("screenResolution",
-            screenResolution.getScreenShotResolutionAsString(SAUCELABS));
-      } else {
-        // Default appium version left as blank string
-        var appiumVersion = Optional
-            .ofNullable(getDesiredCapabilities().getMobile().getAppiumVersion()).orElse("");
-        sauceCaps.setCapability("appiumVersion", appiumVersion);
-      }
+    // Required
+    sauceCaps.setCapability("username", username);
+    sauceCaps.setCapability("accessKey", accessKey);
+
+    // Since we've added mobile emulation, we need to make sure screen resolution is not set
+    // for a mobile emulation sauce configuration. Otherwise, set the appium version capability
+    if (getDesiredCapabilities().getRunType() == SAUCE) {
+      sauceCaps.setCapability("screenResolution",
+          screenResolution.getScreenShotResolutionAsString(SAUCELABS));
+    } else {
+      // Default appium version left as blank string
+      var appiumVersion = Optional
+          .ofNullable(getDesiredCapabilities().getMobile().getAppiumVersion()).orElse("");
+      sauceCaps.setCapability("appiumVersion", appiumVersion);
+    }
+
+    // Optionals with no default
+    tunnelIdentifier.ifPresent(tunnelId -> sauceCaps.setCapability("tunnelIdentifier", tunnelId));
+    parentTunnel
+        .ifPresent(parentTunnelId -> sauceCaps.setCapability("parentTunnel", parentTunnelId));
+    timeZone.ifPresent(tz -> sauceCaps.setCapability("timeZone", tz));
+    extendedDebugging.ifPresent(setting -> sauceCaps.setCapability("extendedDebugging", setting));
+    capturePerformance.ifPresent(setting -> sauceCaps.setCapability("capturePerformance", setting));
 
-      // Optionals with no default
-      tunnelIdentifier.ifPresent(tunnelId -> sauceCaps.setCapability("tunnelIdentifier", tunnelId));
-      parentTunnel
-          .ifPresent(parentTunnelId -> sauceCaps.setCapability("parentTunnel", parentTunnelId));
-      timeZone.ifPresent(tz -> sauceCaps.setCapability("timeZone", tz));
-      extendedDebugging.ifPresent(setting -> sauceCaps.setCapability("extendedDebugging", setting));
-      capturePerformance.ifPresent(setting -> sauceCaps.setCapability("capturePerformance", setting));
+    browserOptions.setCapability(CapabilityProfile.SAUCE_OPTIONS_CAPABILITY, sauceCaps);
+    return sauceConfigUrl;
+  }
 
-      browserOptions.setCapability("sauce:options", sauceCaps);
-      return startScreenshotRemoteDriver(sauceConfigUrl, browserOptions);
+  /**
+   * Starts a new remote session against Sauce.
+   * <p>
+   * If any issue is discovered during the starting of this browser, we will throw a {@link
+   * WebDriverException} with a custom message.
+   *
+   * @param sauceUrl       the sauce url from {@link #configureSauceOptions(MutableCapabilities)}
+   * @param browserOptions the browser options, including the sauce options
+   * @return the driver as {@link RemoteWebDriver}
+   */
+  private RemoteWebDriver startSauceRemoteBrowser(String sauceUrl,
+      MutableCapabilities browserOptions) {
+    try {
+      return startScreenshotRemoteDriver(sauceUrl, browserOptions);
     } catch (Exception e) {
       throw new WebDriverManagerException(
           "Unable to start new remote session against SauceLabs. Check the caused by in the stacktrace below.",
@@ -621,10 +767,12 @@ public class WebDriverManager {
   }
 
   /**
-   * Starts a new {@link ScreenshotRemoteDriver} for the remote session.
+   * Starts a new {@link ScreenshotRemoteDriver} for the remote session. Each attempt waits for the
+   * {@link SessionAdmissionController} for the remote endpoint to admit it, and failed attempts are
+   * retried according to the {@link SessionAcquisitionPolicy}.
    * <p>
    * This method will throw a {@link MalformedURLException}. Only two methods should be using this
-   * helper method: {@link #configureSauceRemoteBrowser(MutableCapabilities, String)} and {@link
+   * helper method: {@link #startSauceRemoteBrowser(String, MutableCapabilities)} and {@link
    * #createRemoteWebDriver(MutableCapabilities)}. Those methods should be responsible for throwing
    * their own custom error message since they both have varying reasons that could cause a failure
    * during the initialization of a new remote driver.
@@ -633,12 +781,71 @@ public class WebDriverManager {
    * @param browserOptions the mutable capabilities of the browser
    * @return the driver as a {@link RemoteWebDriver}
    */
-  private synchronized RemoteWebDriver startScreenshotRemoteDriver(String remoteUrl,
+  private RemoteWebDriver startScreenshotRemoteDriver(String remoteUrl,
       MutableCapabilities browserOptions)
       throws MalformedURLException {
+    var url = new URL(remoteUrl);
+    var sessionCreation = getDesiredCapabilities().getSessionCreation();
+    var admissionController = SessionAdmissionController
+        .forEndpoint(url, sessionCreation.getMaxInFlightPerEndpoint(),
+            Duration.ofSeconds(sessionCreation.getAdmissionTimeoutInSeconds()));
+    return SessionAcquisitionPolicy.forEndpoint(url, sessionCreation)
+        .acquire(() -> admissionController
+            .admit(() -> newScreenshotRemoteDriver(url, browserOptions)));
+  }
+
+  /**
+   * Creates the {@link ScreenshotRemoteDriver}. When the remote HTTP client is enabled, the session
+   * sends its commands through the {@link PooledHttpClientFactory} shared by every session against
+   * the remote endpoint. Otherwise, Selenium creates a client for the session.
+   *
+   * @param url            the remote URL to be used
+   * @param browserOptions the mutable capabilities of the browser
+   * @return the driver as a {@link RemoteWebDriver}
+   */
+  private RemoteWebDriver newScreenshotRemoteDriver(URL url, MutableCapabilities browserOptions) {
+    var remoteHttpClient = getDesiredCapabilities().getRemoteHttpClient();
+    if (!remoteHttpClient.isEnabled()) {
+      return new ScreenshotRemoteDriver(url, browserOptions);
+    }
+    var commandExecutor = new HttpCommandExecutor(Collections.emptyMap(), url,
+        PooledHttpClientFactory.forEndpoint(url, remoteHttpClient));
+    return new ScreenshotRemoteDriver(commandExecutor, browserOptions);
+  }
+
+  /**
+   * An immutable snapshot of the values of the {@link DesiredCapabilitiesConfigurationProperties}
+   * that {@link #compileCapabilityProfile()} reads. The configuration is a mutable bean, so it
+   * can't key the cache of profiles itself.
+   */
+  @EqualsAndHashCode
+  private static class CapabilityProfileKey {
+
+    private final List<Object> values;
+
+    private CapabilityProfileKey(List<Object> values) {
+      this.values = values;
+    }
 
-    synchronized (getStartLock()) {
-      return new ScreenshotRemoteDriver(new URL(remoteUrl), browserOptions);
+    private static CapabilityProfileKey of(
+        DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+      var sauce = desiredCapabilities.getSauce();
+      var mobile = desiredCapabilities.getMobile();
+      var awsLambda = desiredCapabilities.getAwsLambda();
+      // Some of the values are optional, so the list allows nulls
+      return new CapabilityProfileKey(Collections.unmodifiableList(Arrays.<Object>asList(
+          desiredCapabilities.getRunType(), desiredCapabilities.getCustomRunType(),
+          desiredCapabilities.getRemoteUrl(), desiredCapabilities.getBrowserType(),
+          desiredCapabilities.getRunPlatform(), desiredCapabilities.getBrowserVersion(),
+          desiredCapabilities.getScreenResolution(),
+          sauce.getUserName(), sauce.getAccessKey(), sauce.getUrl(), sauce.getTunnelIdentifier(),
+          sauce.getParentTunnel(), sauce.getTimeZone(), sauce.getExtendedDebugging(),
+          sauce.getCapturePerformance(),
+          mobile.getSauceDeviceName(), mobile.getBrowserName(), mobile.getPlatformName(),
+          mobile.getPlatformVersion(), mobile.getDeviceType(), mobile.getDeviceOrientation(),
+          mobile.getAppiumVersion(),
+          awsLambda.getBrowserBinaryPath(), awsLambda.getDataPath(), awsLambda.getDiskCacheDir(),
+          awsLambda.getHomeDir(), awsLambda.getUserDataDir())));
     }
   }
 }
@@ -0,0 +1,142 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Starts the next {@link WebDriver} for a worker thread in the background while the worker's
+ * current test is running, so the next test can pick up a ready session instead of waiting on a
+ * browser to start.
+ * <p>
+ * Each worker thread has at most one session warming at a time, which means a worker can have two
+ * live sessions while a test runs. Keep this in mind when sizing parallelism against a Grid or
+ * Sauce concurrency limit. The last session warmed by each worker is never claimed, so every
+ * unclaimed session is quit when the JVM shuts down.
+ * <p>
+ * A warmed session sits idle for the whole test before the one that claims it, so a remote
+ * endpoint may have timed it out by then. A warmed session is checked with a cheap command before
+ * it's handed over, and any warmed session that can't be used is replaced with a new one.
+ */
+@Slf4j
+public class WebDriverPreWarmer {
+
+  private static final long SHUTDOWN_WAIT_IN_SECONDS = 30L;
+
+  /**
+   * How long a claim waits on a session that's still warming before starting a new one, which
+   * matches the default admission timeout of a remote session creation.
+   */
+  private static final long CLAIM_WAIT_IN_SECONDS = 120L;
+  private static final ThreadLocal<Future<WebDriver>> NEXT_SESSION = new ThreadLocal<>();
+  private static final Set<Future<WebDriver>> UNCLAIMED_SESSIONS = ConcurrentHashMap.newKeySet();
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    var thread = new Thread(runnable, "scaffold-session-pre-warm-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  static {
+    Runtime.getRuntime().addShutdownHook(
+        new Thread(WebDriverPreWarmer::quitUnclaimedSessions, "scaffold-session-pre-warm-shutdown"));
+  }
+
+  private WebDriverPreWarmer() {
+  }
+
+  /**
+   * Returns the session that was warmed for the current thread. If nothing was warmed, warming the
+   * session failed or didn't finish in time, or the warmed session no longer responds, a new
+   * session is started on the current thread instead.
+   *
+   * @param sessionFactory starts a new session when there's no warmed session to claim
+   * @param onClaim        invoked with a warmed session before it's handed to the current test
+   * @return the session as {@link WebDriver}
+   */
+  public static WebDriver claim(Supplier<WebDriver> sessionFactory, Consumer<WebDriver> onClaim) {
+    var nextSession = NEXT_SESSION.get();
+    NEXT_SESSION.remove();
+    if (nextSession == null) {
+      return sessionFactory.get();
+    }
+    UNCLAIMED_SESSIONS.remove(nextSession);
+
+    WebDriver webDriver;
+    try {
+      webDriver = nextSession.get(CLAIM_WAIT_IN_SECONDS, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      log.debug("Pre-warmed session failed to start, starting a new one: " + getStackTrace(e));
+      return sessionFactory.get();
+    } catch (TimeoutException e) {
+      log.debug(String.format(
+          "Pre-warmed session didn't start within %d seconds, starting a new one",
+          CLAIM_WAIT_IN_SECONDS));
+      EXECUTOR.execute(() -> quitWhenStarted(nextSession));
+      return sessionFactory.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      quitWhenStarted(nextSession);
+      return sessionFactory.get();
+    }
+
+    try {
+      // A cheap command that fails when the endpoint timed the idle session out
+      webDriver.getWindowHandle();
+      onClaim.accept(webDriver);
+      return webDriver;
+    } catch (RuntimeException e) {
+      log.debug("Pre-warmed session can't be claimed, starting a new one: " + getStackTrace(e));
+      quit(webDriver);
+      return sessionFactory.get();
+    }
+  }
+
+  /**
+   * Starts warming the next session for the current thread. Any session that was already warming
+   * for this thread is left for the shutdown hook to quit.
+   *
+   * @param sessionFactory starts the new session on the background executor
+   */
+  public static void preWarm(Supplier<WebDriver> sessionFactory) {
+    var nextSession = EXECUTOR.submit(sessionFactory::get);
+    UNCLAIMED_SESSIONS.add(nextSession);
+    NEXT_SESSION.set(nextSession);
+  }
+
+  private static void quitUnclaimedSessions() {
+    UNCLAIMED_SESSIONS.forEach(WebDriverPreWarmer::quitWhenStarted);
+    UNCLAIMED_SESSIONS.clear();
+  }
+
+  private static void quitWhenStarted(Future<WebDriver> session) {
+    try {
+      quit(session.get(SHUTDOWN_WAIT_IN_SECONDS, TimeUnit.SECONDS));
+    } catch (Exception e) {
+      log.debug("Unable to quit pre-warmed session: " + e);
+    }
+  }
+
+  private static void quit(WebDriver webDriver) {
+    if (webDriver == null) {
+      return;
+    }
+    try {
+      webDriver.quit();
+    } catch (Exception e) {
+      log.error("Error quitting pre-warmed session: " + getStackTrace(e));
+    }
+  }
+}
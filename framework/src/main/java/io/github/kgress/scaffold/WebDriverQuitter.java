@@ -0,0 +1,129 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+import static io.github.kgress.scaffold.util.AutomationUtils.sleep;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Quits {@link WebDriver} instances on a bounded background executor so the test thread can move
+ * on to its next test instead of waiting on a remote quit.
+ * <p>
+ * When every quitter thread is busy and the queue is full, the quit runs on the calling thread.
+ * That keeps the number of abandoned-but-not-yet-quit sessions bounded when a remote endpoint
+ * slows down. A quit that fails with a transient {@link WebDriverException} is retried once, and
+ * any queued quits are drained when the JVM shuts down.
+ */
+@Slf4j
+public class WebDriverQuitter {
+
+  private static final long RETRY_DELAY_IN_MILLIS = 1000L;
+  private static volatile WebDriverQuitter instance;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration drainTimeout;
+
+  private final ThreadPoolExecutor executor;
+
+  public WebDriverQuitter(int threads, int queueCapacity, Duration drainTimeout) {
+    var threadCount = new AtomicInteger();
+    this.drainTimeout = drainTimeout;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          var thread = new Thread(runnable, "scaffold-quitter-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new CallerRunsPolicy());
+  }
+
+  /**
+   * Returns the quitter for the JVM, creating it from the teardown configuration the first time
+   * it's requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} for the run
+   * @return as {@link WebDriverQuitter}
+   */
+  static WebDriverQuitter getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (WebDriverQuitter.class) {
+        if (instance == null) {
+          var teardown = desiredCapabilities.getTeardown();
+          var quitter = new WebDriverQuitter(teardown.getQuitterThreads(),
+              teardown.getQuitterQueueCapacity(),
+              Duration.ofSeconds(teardown.getShutdownDrainTimeoutInSeconds()));
+          Runtime.getRuntime()
+              .addShutdownHook(new Thread(quitter::drain, "scaffold-quitter-shutdown"));
+          instance = quitter;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Hands the {@link WebDriver} off to be quit in the background.
+   *
+   * @param webDriver the driver to quit
+   */
+  public void quit(WebDriver webDriver) {
+    if (webDriver == null) {
+      return;
+    }
+    executor.execute(() -> quitWithRetry(webDriver));
+  }
+
+  /**
+   * @return the number of quits waiting for a quitter thread
+   */
+  public int getQueuedCount() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * Stops accepting new quits and waits up to the drain timeout for the queued quits to finish.
+   */
+  public void drain() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(getDrainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        log.error(String.format("%d drivers were not quit before the drain timeout expired",
+            getQueuedCount()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void quitWithRetry(WebDriver webDriver) {
+    try {
+      webDriver.quit();
+    } catch (NoSuchSessionException e) {
+      log.debug("Session was already gone when quitting: " + e.getMessage());
+    } catch (WebDriverException e) {
+      log.debug("Quitting driver failed, retrying once: " + e.getMessage());
+      sleep(RETRY_DELAY_IN_MILLIS);
+      try {
+        webDriver.quit();
+      } catch (Exception retryException) {
+        log.error("Error quitting browser: " + getStackTrace(retryException));
+      }
+    } catch (Exception e) {
+      log.error("Error quitting browser: " + getStackTrace(e));
+    }
+  }
+}
@@ -0,0 +1,377 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A pool of live {@link WebDriver} sessions that are leased to tests instead of being started and
+ * quit for every test. There is one pool per {@link RunType} for the lifetime of the JVM.
+ * <p>
+ * A session is leased in {@link WebDriverManager#initDriver(String)} and released in {@link
+ * WebDriverManager#closeDriver()}. On release, the session is reset so the next test starts from a
+ * clean browser: every window but the one the session had when it was leased is closed, local and
+ * session storage and cookies are cleared, and the browser is navigated to about:blank.
+ * <p>
+ * WebDriver can only clear the cookies and storage of the origin that is currently loaded, so the
+ * reset loads each origin the test visited and clears it there. Visited origins are the ones
+ * navigated to or read through the {@link WebDriverWrapper}, plus the page each window is on at
+ * release. An origin the browser only passed through on a redirect, like a single sign on domain,
+ * or only loaded in a frame, is not known to the pool and keeps its cookies and storage, so don't
+ * pool sessions for tests that depend on those being cleared.
+ * <p>
+ * Sessions are only quit when they fail the health check or the reset, when they sit idle past the
+ * configured idle timeout, or when the JVM shuts down.
+ */
+@Slf4j
+public class WebDriverSessionPool {
+
+  private static final String CLEAR_STORAGE_SCRIPT =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+  private static final String BLANK_PAGE = "about:blank";
+  private static final Map<RunType, WebDriverSessionPool> POOLS = new ConcurrentHashMap<>();
+  private static final ScheduledExecutorService EVICTOR = Executors
+      .newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "scaffold-session-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  static {
+    Runtime.getRuntime().addShutdownHook(
+        new Thread(WebDriverSessionPool::shutdownAll, "scaffold-session-pool-shutdown"));
+  }
+
+  @Getter
+  private final String name;
+
+  @Getter
+  private final int maxSize;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration idleTimeout;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration leaseTimeout;
+
+  // One permit per leased session. Idle sessions only exist once they've been released from a
+  // lease, so leased plus idle sessions can never exceed the max size.
+  private final Semaphore leases;
+  private final Deque<IdleSession> idleSessions = new ArrayDeque<>();
+  private final Set<WebDriver> liveSessions = ConcurrentHashMap.newKeySet();
+
+  // The window each leased session had when it was leased, which is the one the reset keeps
+  private final Map<WebDriver, String> primaryWindows = new ConcurrentHashMap<>();
+
+  public WebDriverSessionPool(String name, int maxSize, Duration idleTimeout,
+      Duration leaseTimeout) {
+    if (maxSize < 1) {
+      throw new WebDriverManagerException(String.format(
+          "Session pool %s must allow at least one session. Check your session-pool configuration.",
+          name));
+    }
+    this.name = name;
+    this.maxSize = maxSize;
+    this.idleTimeout = idleTimeout;
+    this.leaseTimeout = leaseTimeout;
+    this.leases = new Semaphore(maxSize, true);
+  }
+
+  /**
+   * Returns the pool for the configured {@link RunType}, creating it the first time it's requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} for the run
+   * @return as {@link WebDriverSessionPool}
+   */
+  static WebDriverSessionPool forRunType(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var runType = desiredCapabilities.getRunType();
+    return POOLS.computeIfAbsent(runType, key -> {
+      var config = desiredCapabilities.getSessionPool();
+      var pool = new WebDriverSessionPool(
+          runType.getRunType(),
+          config.getMaxSizeByRunType().getOrDefault(runType, config.getMaxSize()),
+          Duration.ofSeconds(config.getIdleTimeoutInSeconds()),
+          Duration.ofSeconds(config.getLeaseTimeoutInSeconds()));
+      pool.scheduleEviction();
+      return pool;
+    });
+  }
+
+  /**
+   * Leases a session from the pool. An idle session is reused when one passes the health check,
+   * otherwise a new session is created with the session factory.
+   *
+   * @param sessionFactory creates a new session when there are no healthy idle sessions
+   * @param onReuse        invoked with an idle session before it's handed to a new test
+   * @return the leased session as {@link WebDriver}
+   */
+  public WebDriver lease(Supplier<WebDriver> sessionFactory, Consumer<WebDriver> onReuse) {
+    acquireLease();
+    try {
+      IdleSession idleSession;
+      while ((idleSession = pollIdleSession()) != null) {
+        var webDriver = idleSession.getWebDriver();
+        var primaryWindow = getPrimaryWindow(webDriver);
+        if (primaryWindow != null) {
+          try {
+            onReuse.accept(webDriver);
+            primaryWindows.put(webDriver, primaryWindow);
+            log.debug(String.format("Reusing pooled session from the %s pool", getName()));
+            return webDriver;
+          } catch (Exception e) {
+            log.debug(String.format("Unable to prepare pooled session for reuse: %s", e));
+          }
+        }
+        log.debug(String.format("Discarding unhealthy pooled session from the %s pool", getName()));
+        quit(webDriver);
+      }
+      var webDriver = sessionFactory.get();
+      if (webDriver != null) {
+        liveSessions.add(webDriver);
+        var primaryWindow = getPrimaryWindow(webDriver);
+        if (primaryWindow != null) {
+          primaryWindows.put(webDriver, primaryWindow);
+        }
+      }
+      return webDriver;
+    } catch (RuntimeException e) {
+      leases.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Resets the session and returns it to the pool for the next test. If the reset fails, the
+   * session is quit instead.
+   *
+   * @param webDriver the session being released
+   */
+  public void release(WebDriver webDriver) {
+    release(webDriver, Set.of());
+  }
+
+  /**
+   * Resets the session, clearing the cookies and storage of every visited origin, and returns it to
+   * the pool for the next test. If the reset fails, the session is quit instead.
+   *
+   * @param webDriver      the session being released
+   * @param visitedOrigins the origins the test visited, like https://www.example.com
+   */
+  public void release(WebDriver webDriver, Set<String> visitedOrigins) {
+    try {
+      if (webDriver == null) {
+        return;
+      }
+      try {
+        reset(webDriver, visitedOrigins);
+        synchronized (idleSessions) {
+          idleSessions.push(new IdleSession(webDriver, System.nanoTime()));
+        }
+      } catch (Exception e) {
+        log.debug(String.format("Unable to reset pooled session, quitting it instead: %s", e));
+        quit(webDriver);
+      }
+    } finally {
+      leases.release();
+    }
+  }
+
+  /**
+   * @return the number of sessions sitting in the pool waiting for a test
+   */
+  public int getIdleCount() {
+    synchronized (idleSessions) {
+      return idleSessions.size();
+    }
+  }
+
+  /**
+   * @return the number of sessions currently leased to tests
+   */
+  public int getLeasedCount() {
+    return getMaxSize() - leases.availablePermits();
+  }
+
+  /**
+   * Quits every idle session that has not been used within the idle timeout.
+   */
+  public void evictIdleSessions() {
+    var now = System.nanoTime();
+    var idleTimeoutInNanos = getIdleTimeout().toNanos();
+    var expiredSessions = new ArrayList<IdleSession>();
+    synchronized (idleSessions) {
+      idleSessions.removeIf(idleSession -> now - idleSession.getReleasedAt() >= idleTimeoutInNanos
+          && expiredSessions.add(idleSession));
+    }
+    // Quitting a remote session can take a while, so do it outside of the lock
+    expiredSessions.forEach(idleSession -> {
+      log.debug(String.format("Evicting idle session from the %s pool", getName()));
+      quit(idleSession.getWebDriver());
+    });
+  }
+
+  /**
+   * Quits every session this pool has created, leased or not.
+   */
+  void shutdown() {
+    synchronized (idleSessions) {
+      idleSessions.clear();
+    }
+    liveSessions.forEach(this::quit);
+  }
+
+  private static void shutdownAll() {
+    POOLS.values().forEach(WebDriverSessionPool::shutdown);
+  }
+
+  private void scheduleEviction() {
+    var period = Math.max(1L, getIdleTimeout().toSeconds() / 2);
+    EVICTOR.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.SECONDS);
+  }
+
+  private void acquireLease() {
+    try {
+      if (!leases.tryAcquire(getLeaseTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new WebDriverManagerException(String.format(
+            "Timed out after %d seconds waiting for a session from the %s pool. All %d sessions are leased.",
+            getLeaseTimeout().toSeconds(), getName(), getMaxSize()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverManagerException("Interrupted while waiting for a pooled session", e);
+    }
+  }
+
+  private IdleSession pollIdleSession() {
+    synchronized (idleSessions) {
+      return idleSessions.poll();
+    }
+  }
+
+  /**
+   * Reads the current window of the session, which doubles as the health check of an idle session.
+   *
+   * @param webDriver the session
+   * @return the current window handle, or null if the session or browser is dead
+   */
+  private String getPrimaryWindow(WebDriver webDriver) {
+    try {
+      // Any command will do. A dead session or browser fails it with a WebDriverException.
+      return webDriver.getWindowHandle();
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Puts the browser back into a clean state for the next test. Storage and cookies are scoped to
+   * an origin, so they're cleared on the current page first and then on every other visited
+   * origin.
+   *
+   * @param webDriver      the session to reset
+   * @param visitedOrigins the origins the test visited
+   */
+  private void reset(WebDriver webDriver, Set<String> visitedOrigins) {
+    var origins = new LinkedHashSet<>(visitedOrigins);
+    var windowHandles = webDriver.getWindowHandles();
+    var primaryWindow = primaryWindows.remove(webDriver);
+    if (primaryWindow == null || !windowHandles.contains(primaryWindow)) {
+      // The test closed the window the session was leased with, so keep any of the others
+      primaryWindow = windowHandles.iterator().next();
+    }
+    for (var windowHandle : windowHandles) {
+      if (!windowHandle.equals(primaryWindow)) {
+        webDriver.switchTo().window(windowHandle);
+        toOrigin(webDriver.getCurrentUrl()).ifPresent(origins::add);
+        webDriver.close();
+      }
+    }
+    webDriver.switchTo().window(primaryWindow);
+
+    clearOrigin(webDriver);
+    toOrigin(webDriver.getCurrentUrl()).ifPresent(origins::remove);
+    for (var origin : origins) {
+      webDriver.get(origin + "/");
+      clearOrigin(webDriver);
+    }
+    webDriver.get(BLANK_PAGE);
+  }
+
+  private void clearOrigin(WebDriver webDriver) {
+    if (webDriver instanceof JavascriptExecutor) {
+      ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+    }
+    webDriver.manage().deleteAllCookies();
+  }
+
+  /**
+   * Reads the origin of a URL. Only http and https URLs have cookies and storage to clear.
+   *
+   * @param url the URL
+   * @return the origin, like https://www.example.com, or empty for any other kind of URL
+   */
+  static Optional<String> toOrigin(String url) {
+    if (url == null) {
+      return Optional.empty();
+    }
+    try {
+      var uri = new URI(url);
+      var scheme = uri.getScheme() == null ? null : uri.getScheme().toLowerCase(Locale.ROOT);
+      if (!"http".equals(scheme) && !"https".equals(scheme) || uri.getHost() == null) {
+        return Optional.empty();
+      }
+      var port = uri.getPort() == -1 ? "" : ":" + uri.getPort();
+      return Optional.of(scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + port);
+    } catch (URISyntaxException e) {
+      return Optional.empty();
+    }
+  }
+
+  private void quit(WebDriver webDriver) {
+    liveSessions.remove(webDriver);
+    primaryWindows.remove(webDriver);
+    try {
+      webDriver.quit();
+    } catch (Exception e) {
+      log.error("Error quitting pooled session: " + getStackTrace(e));
+    }
+  }
+
+  @Getter
+  private static class IdleSession {
+
+    private final WebDriver webDriver;
+    private final long releasedAt;
+
+    private IdleSession(WebDriver webDriver, long releasedAt) {
+      this.webDriver = webDriver;
+      this.releasedAt = releasedAt;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks every live {@link WebDriverWrapper} along with the thread that started it, and reaps the
+ * sessions that were abandoned. When a test's teardown fails before its context is removed, its
+ * browser would otherwise stay open until the Grid or Sauce idle timeout, holding on to a slot the
+ * rest of the run could be using.
+ * <p>
+ * A session is abandoned when its owner thread has finished, or when no command has gone through
+ * its {@link WebDriverWrapper} for longer than the idle timeout. Reaping a session closes it the
+ * same way the test would have, through {@link WebDriverManager#closeDriver()}, so pooled sessions
+ * go back to their pool.
+ */
+@Slf4j
+public class WebDriverSessionRegistry {
+
+  private static volatile WebDriverSessionRegistry instance;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Duration idleTimeout;
+
+  private final Map<WebDriverManager, TrackedSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong reapedForFinishedOwnerCount = new AtomicLong();
+  private final AtomicLong reapedForIdleCount = new AtomicLong();
+
+  public WebDriverSessionRegistry(Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  /**
+   * Returns the registry for the JVM, creating it from the teardown configuration and scheduling
+   * the reaper the first time it's requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} for the run
+   * @return as {@link WebDriverSessionRegistry}
+   */
+  static WebDriverSessionRegistry getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (WebDriverSessionRegistry.class) {
+        if (instance == null) {
+          var teardown = desiredCapabilities.getTeardown();
+          var registry = new WebDriverSessionRegistry(
+              Duration.ofSeconds(teardown.getAbandonedSessionIdleTimeoutInSeconds()));
+          var interval = Math.max(1L, teardown.getReaperIntervalInSeconds());
+          ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "scaffold-session-reaper");
+            thread.setDaemon(true);
+            return thread;
+          });
+          reaper.scheduleWithFixedDelay(registry::reapAbandonedSessions, interval, interval,
+              TimeUnit.SECONDS);
+          instance = registry;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Starts tracking the session of the manager. The current thread is recorded as its owner.
+   *
+   * @param webDriverManager  the manager the session belongs to
+   * @param webDriverWrapper  the session being tracked
+   */
+  public void track(WebDriverManager webDriverManager, WebDriverWrapper webDriverWrapper) {
+    sessions.put(webDriverManager, new TrackedSession(Thread.currentThread(), webDriverWrapper));
+  }
+
+  /**
+   * Stops tracking the session of the manager, once it's been closed.
+   *
+   * @param webDriverManager the manager the session belongs to
+   */
+  public void untrack(WebDriverManager webDriverManager) {
+    sessions.remove(webDriverManager);
+  }
+
+  /**
+   * Closes every tracked session whose owner thread has finished or that has been idle past the
+   * idle timeout.
+   *
+   * @return the number of sessions that were reaped
+   */
+  public int reapAbandonedSessions() {
+    var reaped = 0;
+    var now = System.nanoTime();
+    for (var entry : sessions.entrySet()) {
+      var trackedSession = entry.getValue();
+      var ownerFinished = !trackedSession.getOwner().isAlive();
+      var idleTime = Duration.ofNanos(now - trackedSession.getWebDriverWrapper().getLastCommandNanos());
+      if (!ownerFinished && idleTime.compareTo(getIdleTimeout()) <= 0) {
+        continue;
+      }
+      // The test may be closing the session right now, so only reap it if it's still tracked
+      if (!sessions.remove(entry.getKey(), trackedSession)) {
+        continue;
+      }
+      if (ownerFinished) {
+        log.error(String.format("Reaping session abandoned by finished thread %s",
+            trackedSession.getOwner().getName()));
+        reapedForFinishedOwnerCount.incrementAndGet();
+      } else {
+        log.error(String.format("Reaping session of thread %s that has been idle for %d seconds",
+            trackedSession.getOwner().getName(), idleTime.toSeconds()));
+        reapedForIdleCount.incrementAndGet();
+      }
+      try {
+        entry.getKey().closeDriver();
+      } catch (Exception e) {
+        log.error("Error reaping session: " + getStackTrace(e));
+      }
+      reaped++;
+    }
+    return reaped;
+  }
+
+  /**
+   * @return the number of sessions currently being tracked
+   */
+  public int getLiveCount() {
+    return sessions.size();
+  }
+
+  /**
+   * @return the number of sessions reaped because their owner thread had finished
+   */
+  public long getReapedForFinishedOwnerCount() {
+    return reapedForFinishedOwnerCount.get();
+  }
+
+  /**
+   * @return the number of sessions reaped because they had been idle past the idle timeout
+   */
+  public long getReapedForIdleCount() {
+    return reapedForIdleCount.get();
+  }
+
+  /**
+   * @return the total number of sessions reaped
+   */
+  public long getReapedCount() {
+    return getReapedForFinishedOwnerCount() + getReapedForIdleCount();
+  }
+
+  @Getter
+  private static class TrackedSession {
+
+    private final Thread owner;
+    private final WebDriverWrapper webDriverWrapper;
+
+    private TrackedSession(Thread owner, WebDriverWrapper webDriverWrapper) {
+      this.owner = owner;
+      this.webDriverWrapper = webDriverWrapper;
+    }
+  }
+}
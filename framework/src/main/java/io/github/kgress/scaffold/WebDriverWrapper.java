@@ -4,11 +4,16 @@ import static io.github.kgress.scaffold.util.AutomationUtils.sleep;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
+import io.github.kgress.scaffold.models.enums.desktop.ClickSettleStrategy;
 import java.io.File;
+import java.net.URL;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -35,9 +40,64 @@ public class WebDriverWrapper {
 
     private static final Long WINDOW_TIME_OUT_IN_SECONDS = 60L;
 
-    @Getter
     final WebDriver baseWebDriver;
 
+    /**
+     * The {@link System#nanoTime()} of the last command sent through this wrapper. The {@link WebDriverSessionRegistry}
+     * uses it to find sessions that have been abandoned.
+     */
+    private volatile long lastCommandNanos = System.nanoTime();
+
+    /**
+     * Whether elements reuse the raw {@link WebElement} they found the last time they were interacted with. See
+     * {@link BaseWebElement#getRawWebElement()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private boolean elementHandleCacheEnabled = false;
+
+    /**
+     * Whether clickable elements are clicked in a single script call. See {@link BaseWebElement#clickWithScript()}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private boolean fastClickEnabled = false;
+
+    /**
+     * Whether pages verify their elements together in a single script call. See
+     * {@link BasePage#verifyIsOnPage(BaseWebElement...)}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private boolean batchPageVerificationEnabled = false;
+
+    /**
+     * How clickable elements wait for the page to settle after they're clicked on.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private ClickSettleStrategy clickSettleStrategy = ClickSettleStrategy.PAGE_LOAD;
+
+    /**
+     * How long the page must be quiet before {@link AutomationWait#waitForNetworkIdle()} considers it idle.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private Long networkIdleQuietPeriodInMillis = 500L;
+
+    /**
+     * Whether the {@link AutomationWait} waits on element conditions in the browser. See {@link BrowserConditionWait}.
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private boolean browserConditionWaitEnabled = false;
+
+    /**
+     * Counts the changes to the page that can replace the elements on it, like a navigation, a click, or a window
+     * switch. An element only reuses its raw {@link WebElement} while the generation it was found in is current.
+     */
+    private final AtomicLong domGeneration = new AtomicLong();
+
     @Getter
     private final AutomationWait automationWait;
 
@@ -45,6 +105,12 @@ public class WebDriverWrapper {
     @Setter
     private LinkedList<String> registeredWindows = new LinkedList<>();
 
+    /**
+     * The origins of the URLs navigated to or read through this wrapper. A pooled session clears the cookies and
+     * storage of each of them before it's handed to the next test. See {@link WebDriverSessionPool}.
+     */
+    private final Set<String> visitedOrigins = ConcurrentHashMap.newKeySet();
+
     /**
      * Takes a raw {@link WebDriver} instance and wraps it up in a wonderful blanket for thread-safe handling.
      * @param baseWebDriver         the root {@link WebDriver}
@@ -56,6 +122,48 @@ public class WebDriverWrapper {
         this.automationWait = new AutomationWait(this, waitTimeoutInSeconds);
     }
 
+    /**
+     * Returns the root {@link WebDriver}. Every command goes through here, so this also records the time of the last
+     * command.
+     *
+     * @return the root {@link WebDriver}
+     */
+    public WebDriver getBaseWebDriver() {
+        lastCommandNanos = System.nanoTime();
+        return baseWebDriver;
+    }
+
+    /**
+     * Returns the time of the last command sent to the browser. A remote session records every command it sends, see
+     * {@link ScreenshotRemoteDriver#getLastCommandNanos()}. Any other driver only records the commands sent through
+     * {@link #getBaseWebDriver()}, so commands on a raw {@link WebElement} the test kept a reference to don't count.
+     *
+     * @return the {@link System#nanoTime()} of the last command
+     */
+    public long getLastCommandNanos() {
+        if (baseWebDriver instanceof ScreenshotRemoteDriver) {
+            var driverLastCommandNanos = ((ScreenshotRemoteDriver) baseWebDriver).getLastCommandNanos();
+            // Compare the difference, since nano times can overflow
+            return driverLastCommandNanos - lastCommandNanos > 0 ? driverLastCommandNanos : lastCommandNanos;
+        }
+        return lastCommandNanos;
+    }
+
+    /**
+     * @return the current DOM generation
+     */
+    public long getDomGeneration() {
+        return domGeneration.get();
+    }
+
+    /**
+     * Starts a new DOM generation so elements find their raw {@link WebElement} again on their next interaction. This
+     * is called on navigations, window and frame switches, and element interactions that can change the page.
+     */
+    public void invalidateElementHandles() {
+        domGeneration.incrementAndGet();
+    }
+
     /**
      * Finds a raw {@link WebElement} on the page using a {@link By} locator
      *
@@ -82,6 +190,8 @@ public class WebDriverWrapper {
      * @param url the URL to navigate to
      */
     public void get(String url) {
+        invalidateElementHandles();
+        recordVisitedOrigin(url);
         getBaseWebDriver().get(url);
     }
 
@@ -149,7 +259,36 @@ public class WebDriverWrapper {
      * @return as a {@link Navigation}
      */
     public Navigation navigate() {
-        return getBaseWebDriver().navigate();
+        invalidateElementHandles();
+        var navigation = getBaseWebDriver().navigate();
+        return new Navigation() {
+            @Override
+            public void back() {
+                navigation.back();
+            }
+
+            @Override
+            public void forward() {
+                navigation.forward();
+            }
+
+            @Override
+            public void to(String url) {
+                recordVisitedOrigin(url);
+                navigation.to(url);
+            }
+
+            @Override
+            public void to(URL url) {
+                recordVisitedOrigin(url.toString());
+                navigation.to(url);
+            }
+
+            @Override
+            public void refresh() {
+                navigation.refresh();
+            }
+        };
     }
 
     /**
@@ -177,7 +316,20 @@ public class WebDriverWrapper {
      * @return the current URL as a {@link String}
      */
     public String getCurrentUrl() {
-        return getBaseWebDriver().getCurrentUrl();
+        var currentUrl = getBaseWebDriver().getCurrentUrl();
+        recordVisitedOrigin(currentUrl);
+        return currentUrl;
+    }
+
+    /**
+     * @return the origins of the URLs navigated to or read through this wrapper, like https://www.example.com
+     */
+    public Set<String> getVisitedOrigins() {
+        return Set.copyOf(visitedOrigins);
+    }
+
+    private void recordVisitedOrigin(String url) {
+        WebDriverSessionPool.toOrigin(url).ifPresent(visitedOrigins::add);
     }
 
     /**
@@ -200,6 +352,7 @@ public class WebDriverWrapper {
      * @return as a {@link TargetLocator}
      */
     public TargetLocator switchTo() {
+        invalidateElementHandles();
         return getBaseWebDriver().switchTo();
     }
 
@@ -219,6 +372,7 @@ public class WebDriverWrapper {
      * @param windowHandle the window id
      */
     public void switchToWindow(String windowHandle) {
+        invalidateElementHandles();
         getBaseWebDriver().switchTo().window(windowHandle);
     }
 
@@ -252,8 +406,7 @@ public class WebDriverWrapper {
      */
     public void synchronizeWindows() {
         // This custom timeout will only last for the duration of the window handling
-        getAutomationWait().setTimeoutInSeconds(WINDOW_TIME_OUT_IN_SECONDS);
-        getAutomationWait().waitForCustomCondition(createWindowExpectedCondition(), null);
+        getAutomationWait().waitForCustomCondition(createWindowExpectedCondition(), WINDOW_TIME_OUT_IN_SECONDS);
         // Once we know we've found a window change, lets settle down for a few seconds and
         // freshly retrieve our window handles before attempting any logic
         sleep(200);
@@ -330,6 +483,7 @@ public class WebDriverWrapper {
         if (this.getWindowHandles().size() > 1) {
             synchronizeWindows = true;
         }
+        invalidateElementHandles();
         getBaseWebDriver().close();
         // After closing the window, we can synchronize our windows
         if (synchronizeWindows) {
@@ -31,4 +31,20 @@ public class WebElementWait {
     public Boolean waitUntilPageIsLoaded() {
         return getWebDriverWrapper().getAutomationWait().waitUntilPageIsLoaded();
     }
+
+    /**
+     * Instruments the page so {@link #waitForNetworkIdle()} sees the requests started after this call.
+     */
+    public void instrumentNetwork() {
+        getWebDriverWrapper().getAutomationWait().instrumentNetwork();
+    }
+
+    /**
+     * Waits for the page to have no requests in flight and no short timers pending for the quiet period set in
+     * the spring profile.
+     * @return as {@link Boolean}
+     */
+    public Boolean waitForNetworkIdle() {
+        return getWebDriverWrapper().getAutomationWait().waitForNetworkIdle();
+    }
 }
@@ -0,0 +1,28 @@
+package io.github.kgress.scaffold.providers;
+
+import io.github.kgress.scaffold.DriverProvider;
+import io.github.kgress.scaffold.DriverProviderFor;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+
+/**
+ * Supplies the Edge browser options and starts local sessions with an {@link EdgeDriver}.
+ */
+@DriverProviderFor(browserTypes = BrowserType.EDGE)
+public class EdgeDriverProvider implements DriverProvider {
+
+  @Override
+  public MutableCapabilities createBrowserOptions(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    return new EdgeOptions();
+  }
+
+  @Override
+  public WebDriver startSession(MutableCapabilities browserOptions) {
+    return new EdgeDriver((EdgeOptions) browserOptions);
+  }
+}
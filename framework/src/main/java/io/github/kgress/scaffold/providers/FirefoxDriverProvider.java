@@ -0,0 +1,32 @@
+package io.github.kgress.scaffold.providers;
+
+import static io.github.kgress.scaffold.models.enums.desktop.ScreenResolution.ScreenResolutionType.SELENIUM;
+
+import io.github.kgress.scaffold.DriverProvider;
+import io.github.kgress.scaffold.DriverProviderFor;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Supplies the Firefox browser options and starts local sessions with a {@link FirefoxDriver}.
+ */
+@DriverProviderFor(browserTypes = BrowserType.FIREFOX)
+public class FirefoxDriverProvider implements DriverProvider {
+
+  @Override
+  public MutableCapabilities createBrowserOptions(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var screenResolution = desiredCapabilities.getScreenResolution(); // Has a default set
+    return new FirefoxOptions().setAcceptInsecureCerts(true)
+        .addArguments("--window-size=" + screenResolution.getScreenShotResolutionAsString(SELENIUM));
+  }
+
+  @Override
+  public WebDriver startSession(MutableCapabilities browserOptions) {
+    return new FirefoxDriver((FirefoxOptions) browserOptions);
+  }
+}
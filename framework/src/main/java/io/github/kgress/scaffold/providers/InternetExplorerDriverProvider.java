@@ -0,0 +1,28 @@
+package io.github.kgress.scaffold.providers;
+
+import io.github.kgress.scaffold.DriverProvider;
+import io.github.kgress.scaffold.DriverProviderFor;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.ie.InternetExplorerDriver;
+import org.openqa.selenium.ie.InternetExplorerOptions;
+
+/**
+ * Supplies the Internet Explorer browser options and starts local sessions with an {@link InternetExplorerDriver}.
+ */
+@DriverProviderFor(browserTypes = BrowserType.INTERNET_EXPLORER)
+public class InternetExplorerDriverProvider implements DriverProvider {
+
+  @Override
+  public MutableCapabilities createBrowserOptions(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    return new InternetExplorerOptions();
+  }
+
+  @Override
+  public WebDriver startSession(MutableCapabilities browserOptions) {
+    return new InternetExplorerDriver((InternetExplorerOptions) browserOptions);
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.kgress.scaffold.providers;
+
+import io.github.kgress.scaffold.DriverProvider;
+import io.github.kgress.scaffold.DriverProviderFor;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
+
+/**
+ * Supplies the Safari browser options and starts local sessions with a {@link SafariDriver}.
+ */
+@DriverProviderFor(browserTypes = BrowserType.SAFARI)
+public class SafariDriverProvider implements DriverProvider {
+
+  @Override
+  public MutableCapabilities createBrowserOptions(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    return new SafariOptions();
+  }
+
+  @Override
+  public WebDriver startSession(MutableCapabilities browserOptions) {
+    return new SafariDriver((SafariOptions) browserOptions);
+  }
+}
@@ -3,8 +3,13 @@ package io.github.kgress.scaffold.webelements;
 import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.WebDriverWrapper;
 import io.github.kgress.scaffold.WebElementWait;
+import io.github.kgress.scaffold.models.enums.desktop.ClickSettleStrategy;
+import lombok.Getter;
+import lombok.Setter;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 /**
@@ -15,6 +20,23 @@ import org.openqa.selenium.WebElement;
  */
 public class BaseClickableWebElement extends BaseWebElement {
 
+    /**
+     * Waits for the browser to render the next frame after a click, see {@link ClickSettleStrategy#ANIMATION_FRAME}.
+     */
+    private static final String NEXT_FRAME_SCRIPT = "var done = arguments[arguments.length - 1];"
+            + "requestAnimationFrame(function () { requestAnimationFrame(function () { done(); }); });";
+
+    /**
+     * Optional. How to wait for the page to settle after this element is clicked on, overriding the
+     * {@link ClickSettleStrategy} set in the spring profile. For example, a save button that sends a request:
+     * <pre>{@code
+     *      saveButton.setClickSettleStrategy(ClickSettleStrategy.NETWORK_IDLE);
+     * }</pre>
+     */
+    @Getter
+    @Setter
+    private ClickSettleStrategy clickSettleStrategy;
+
     /**
      * Creates a new {@link ButtonWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
      * another method, such as {@link By#xpath(String)}, in almost all cases as it can be less flaky and less reliant
@@ -163,17 +185,37 @@ public class BaseClickableWebElement extends BaseWebElement {
      *
      * - Scrolling the element into current view
      * - Performing the click action on the element
-     * - Waits for the page to load prior to proceeding
+     * - Waits for the page to settle prior to proceeding
+     *
+     * When fast click is enabled, the element is found, scrolled into view and clicked on with a single script call
+     * through {@link BaseWebElement#clickWithScript(boolean)}, and the steps below only happen when that isn't
+     * possible.
      *
      * Scrolling the element into view will invoke {@link BaseWebElement#getRawWebElement()} and
      * therefore the element will {@link WebElementWait#waitUntilDisplayed()}. Because the wait
      * already is occurring during the scroll, we should not invoke another wait call and instead
      * find the element directly through selenium, using the {@link WebDriverWrapper}. After
-     * the element is found and clicked on, wait until the page is loaded before proceeding.
+     * the element is found and clicked on, wait for the page to settle as defined by the {@link ClickSettleStrategy}
+     * before proceeding.
      *
      * @see WebElement#click()
      */
     public void click() {
+        var settleStrategy = getEffectiveClickSettleStrategy();
+        var waitForNetworkIdle = settleStrategy == ClickSettleStrategy.NETWORK_IDLE;
+        if (getWebDriverWrapper().isFastClickEnabled() && clickWithScript(waitForNetworkIdle)) {
+            waitForClickToSettle(settleStrategy);
+            return;
+        }
+
+        /*
+        When waiting for the network to be idle after the click, the page needs to be instrumented
+        before the click so the requests the click starts are counted.
+         */
+        if (waitForNetworkIdle) {
+            getWebElementWait().instrumentNetwork();
+        }
+
         /*
         Scrolls the element into view so selenium can click it. Ideally we always want to scroll
         with the least amount of effort required to get the element into view. This is why the
@@ -184,15 +226,61 @@ public class BaseClickableWebElement extends BaseWebElement {
         /*
         Find the element through Selenium directly instead of using our custom getRawWebElement.
         scrollIntoView already waits for the element to be displayed, and we don't want to add
-        more waits.
+        more waits. When the element handle cache is enabled, scrollIntoView already found the
+        element, so click that one and start a new DOM generation afterwards.
          */
-        getWebDriverWrapper().findElement(this.getBy()).click();
+        if (getWebDriverWrapper().isElementHandleCacheEnabled()) {
+            interactWithRawWebElement(WebElement::click);
+        } else {
+            getWebDriverWrapper().findElement(this.getBy()).click();
+        }
 
         /*
         This is a nice catch all that should happen after the element is clicked on. Sometimes
         websites may have additional javascript or ajax calls when clicking on elements. This
         ensures the state of the page is ready.
          */
+        waitForClickToSettle(settleStrategy);
+    }
+
+    /**
+     * @return the {@link ClickSettleStrategy} of this element, or the one from the {@link WebDriverWrapper} when this
+     * element doesn't have one
+     */
+    private ClickSettleStrategy getEffectiveClickSettleStrategy() {
+        return getClickSettleStrategy() != null
+                ? getClickSettleStrategy()
+                : getWebDriverWrapper().getClickSettleStrategy();
+    }
+
+    /**
+     * Waits for the page to settle after a click, as defined by the {@link ClickSettleStrategy}. Waits until the page
+     * is loaded when no strategy is set.
+     *
+     * @param clickSettleStrategy the {@link ClickSettleStrategy} to wait with
+     */
+    private void waitForClickToSettle(ClickSettleStrategy clickSettleStrategy) {
+        if (clickSettleStrategy == ClickSettleStrategy.NONE) {
+            return;
+        } else if (clickSettleStrategy == ClickSettleStrategy.ANIMATION_FRAME) {
+            getWebDriverWrapper().getJavascriptExecutor().executeAsyncScript(NEXT_FRAME_SCRIPT);
+            return;
+        } else if (clickSettleStrategy == ClickSettleStrategy.NETWORK_IDLE) {
+            try {
+                getWebElementWait().waitForNetworkIdle();
+            } catch (TimeoutException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                /*
+                The click started a navigation, like a form submit, and the page unloaded while the script was
+                waiting. Wait for the new page to load, then wait for its own requests.
+                 */
+                getWebElementWait().waitUntilPageIsLoaded();
+                getWebElementWait().instrumentNetwork();
+                getWebElementWait().waitForNetworkIdle();
+            }
+            return;
+        }
         getWebElementWait().waitUntilPageIsLoaded();
     }
 }
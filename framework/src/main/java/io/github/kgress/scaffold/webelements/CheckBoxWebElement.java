@@ -171,8 +171,8 @@ public class CheckBoxWebElement extends BaseClickableWebElement {
      * Checks the checkbox in {@link #check(boolean)}
      */
     private void check() {
-        if (!getRawWebElement().isSelected()) {
-            getRawWebElement().click();
+        if (!withRawWebElement(WebElement::isSelected)) {
+            interactWithRawWebElement(WebElement::click);
         }
     }
 
@@ -180,8 +180,8 @@ public class CheckBoxWebElement extends BaseClickableWebElement {
      * Unchecks the checkbox in {@link #check(boolean)}
      */
     private void uncheck() {
-        if (getRawWebElement().isSelected()) {
-            getRawWebElement().click();
+        if (withRawWebElement(WebElement::isSelected)) {
+            interactWithRawWebElement(WebElement::click);
         }
     }
 }
@@ -160,6 +160,6 @@ public class ImageWebElement extends BaseClickableWebElement {
      * @return the image source as {@link String}
      */
     public String getImageSource() {
-        return getRawWebElement().getAttribute("src");
+        return withRawWebElement(element -> element.getAttribute("src"));
     }
 }
@@ -160,7 +160,7 @@ public class LinkWebElement extends BaseClickableWebElement {
      * @return  the link as {@link String}
      */
     public String getLinkText() {
-        return getRawWebElement().getText();
+        return withRawWebElement(WebElement::getText);
     }
 
     /**
@@ -169,6 +169,6 @@ public class LinkWebElement extends BaseClickableWebElement {
      * @return  the link's URL as {@link String}
      */
     public String getLinkHref() {
-        return getRawWebElement().getAttribute("href");
+        return withRawWebElement(element -> element.getAttribute("href"));
     }
 }
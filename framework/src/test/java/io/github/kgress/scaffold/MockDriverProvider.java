@@ -0,0 +1,36 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * A {@link DriverProvider} for a custom run type that starts mocked sessions.
+ */
+@DriverProviderFor(customRunType = MockDriverProvider.CUSTOM_RUN_TYPE)
+public class MockDriverProvider implements DriverProvider {
+
+    public static final String CUSTOM_RUN_TYPE = "mock";
+
+    /**
+     * The number of times browser options were created, which is once per capability profile that's built.
+     */
+    public static final AtomicInteger BROWSER_OPTIONS_CREATED = new AtomicInteger();
+
+    @Override
+    public MutableCapabilities createBrowserOptions(DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+        BROWSER_OPTIONS_CREATED.incrementAndGet();
+        var browserOptions = new MutableCapabilities();
+        browserOptions.setCapability("browserName", "mock");
+        return browserOptions;
+    }
+
+    @Override
+    public WebDriver startSession(MutableCapabilities browserOptions) {
+        return mock(WebDriver.class);
+    }
+}
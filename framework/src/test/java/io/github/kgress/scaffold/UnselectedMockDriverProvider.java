@@ -0,0 +1,29 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A {@link DriverProvider} that flags when it's initialized, for checking that providers are only initialized when
+ * they're selected.
+ */
+@DriverProviderFor(customRunType = "unselected")
+public class UnselectedMockDriverProvider implements DriverProvider {
+
+    public static final String INITIALIZED_PROPERTY = "scaffold.unselected-mock-driver-provider.initialized";
+
+    static {
+        System.setProperty(INITIALIZED_PROPERTY, "true");
+    }
+
+    @Override
+    public MutableCapabilities createBrowserOptions(DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public WebDriver startSession(MutableCapabilities browserOptions) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,248 @@
+package io.github.kgress.scaffold.environment;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.environment.config.AdaptiveParallelExecutionConfigurationStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveParallelExecutionConfigurationStrategyTests extends BaseUnitTest {
+
+    private static final String GRID_3_HUB = "{\"slotCounts\": {\"free\": 7, \"total\": 10}}";
+    private static final String GRID_4_STATUS = "{\"value\": {\"ready\": true, \"nodes\": ["
+            + "{\"availability\": \"UP\", \"slots\": [{\"session\": null}, {\"session\": {\"sessionId\": \"1\"}}, {\"session\": null}]},"
+            + "{\"availability\": \"DOWN\", \"slots\": [{\"session\": null}]}]}}";
+    private static final String SAUCE_CONCURRENCY = "{\"concurrency\": {"
+            + "\"organization\": {\"allowed\": {\"vms\": 50}, \"current\": {\"vms\": 10}},"
+            + "\"team\": {\"allowed\": {\"vms\": 8}, \"current\": {\"vms\": 5}}}}";
+    private static final String SAUCE_CONCURRENCY_URI = "/rest/v1.2/users/sauce-user/concurrency";
+
+    private final AdaptiveParallelExecutionConfigurationStrategy strategy = new AdaptiveParallelExecutionConfigurationStrategy();
+    private final Map<String, String> parameters = new HashMap<>();
+    private HttpServer fakeGrid;
+
+    @BeforeEach
+    public void startFakeGrid() throws Exception {
+        fakeGrid = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeGrid.start();
+        parameters.put("junit.jupiter.execution.parallel.config.scaffold.default-parallelism", "20");
+    }
+
+    @AfterEach
+    public void stopFakeGrid() {
+        fakeGrid.stop(0);
+    }
+
+    @Test
+    public void testUnitRunTypeUsesTheDefaultParallelism() {
+        parameters.put("desired-capabilities.run-type", "unit");
+
+        assertEquals(20, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testGridUsesFreeSlotsFromTheHubApi() {
+        respond("/grid/api/hub", GRID_3_HUB);
+        useGrid();
+
+        var configuration = strategy.createConfiguration(configurationParameters());
+
+        assertEquals(7, configuration.getParallelism());
+        assertEquals(7, configuration.getCorePoolSize());
+    }
+
+    @Test
+    public void testGridUsesFreeSlotsFromTheStatusEndpoint() {
+        respond("/status", GRID_4_STATUS);
+        useGrid();
+
+        assertEquals(2, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testUnreachableGridUsesTheDefaultParallelism() {
+        useGrid();
+
+        assertEquals(20, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testMaxParallelismCapsTheGridSlots() {
+        respond("/grid/api/hub", GRID_3_HUB);
+        useGrid();
+        parameters.put("junit.jupiter.execution.parallel.config.scaffold.max-parallelism", "5");
+
+        assertEquals(5, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testGridWithoutFreeSlotsUsesOneThread() {
+        respond("/grid/api/hub", "{\"slotCounts\": {\"free\": 0, \"total\": 10}}");
+        useGrid();
+
+        assertEquals(1, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testSlowGridTimesOutQuickly() {
+        var release = new CountDownLatch(1);
+        fakeGrid.createContext("/", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        useGrid();
+        parameters.put("junit.jupiter.execution.parallel.config.scaffold.status-timeout-in-seconds", "1");
+
+        var start = System.currentTimeMillis();
+        var parallelism = strategy.createConfiguration(configurationParameters()).getParallelism();
+        var elapsed = System.currentTimeMillis() - start;
+        release.countDown();
+
+        assertEquals(20, parallelism);
+        assertTrue(elapsed < 4000L);
+    }
+
+    @Test
+    public void testSauceUsesTheFreeTeamConcurrency() {
+        var authorization = new AtomicReference<String>();
+        fakeGrid.createContext(SAUCE_CONCURRENCY_URI, exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            var body = SAUCE_CONCURRENCY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        useSauce();
+
+        assertEquals(3, strategy.createConfiguration(configurationParameters()).getParallelism());
+        assertEquals("Basic " + Base64.getEncoder().encodeToString("sauce-user:sauce-key".getBytes(StandardCharsets.UTF_8)),
+                authorization.get());
+    }
+
+    @Test
+    public void testSauceFallsBackToTheOrganizationConcurrency() {
+        respond(SAUCE_CONCURRENCY_URI,
+                "{\"concurrency\": {\"organization\": {\"allowed\": {\"vms\": 50}, \"current\": {\"vms\": 44}}}}");
+        useSauce();
+
+        assertEquals(6, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testSauceWithoutFreeConcurrencyUsesOneThread() {
+        respond(SAUCE_CONCURRENCY_URI,
+                "{\"concurrency\": {\"team\": {\"allowed\": {\"vms\": 5}, \"current\": {\"vms\": 5}}}}");
+        useSauce();
+
+        assertEquals(1, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testSauceWithoutCredentialsUsesTheDefaultParallelism() {
+        respond(SAUCE_CONCURRENCY_URI, SAUCE_CONCURRENCY);
+        useSauce();
+        parameters.remove("desired-capabilities.sauce.access-key");
+
+        assertEquals(20, strategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testLocalRunIsBoundByProcessors() {
+        parameters.put("desired-capabilities.run-type", "local");
+
+        var parallelism = strategy.createConfiguration(configurationParameters()).getParallelism();
+
+        assertTrue(parallelism >= 1 && parallelism <= Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void testLocalRunUsesTotalMemoryRatherThanFreeMemory() {
+        parameters.put("desired-capabilities.run-type", "local");
+        var processors = Runtime.getRuntime().availableProcessors();
+        // Plenty of total memory for a browser per processor, whatever little memory is free right now
+        var largeHostStrategy = withTotalMemoryInMb(2048L + 512L * processors);
+
+        assertEquals(processors, largeHostStrategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    @Test
+    public void testLocalRunKeepsTheMemoryReserve() {
+        parameters.put("desired-capabilities.run-type", "local");
+        parameters.put("junit.jupiter.execution.parallel.config.scaffold.memory-reserve-in-mb", "1024");
+        var smallHostStrategy = withTotalMemoryInMb(2048L);
+
+        assertEquals(Math.min(2, Runtime.getRuntime().availableProcessors()),
+                smallHostStrategy.createConfiguration(configurationParameters()).getParallelism());
+    }
+
+    private AdaptiveParallelExecutionConfigurationStrategy withTotalMemoryInMb(long totalMemoryInMb) {
+        return new AdaptiveParallelExecutionConfigurationStrategy() {
+            @Override
+            protected Optional<Long> getTotalPhysicalMemorySize() {
+                return Optional.of(totalMemoryInMb * 1024 * 1024);
+            }
+        };
+    }
+
+    private void useGrid() {
+        parameters.put("desired-capabilities.run-type", "grid");
+        parameters.put("desired-capabilities.remote-url", "http://localhost:" + fakeGrid.getAddress().getPort() + "/wd/hub");
+    }
+
+    private void useSauce() {
+        parameters.put("desired-capabilities.run-type", "sauce");
+        parameters.put("desired-capabilities.sauce.user-name", "sauce-user");
+        parameters.put("desired-capabilities.sauce.access-key", "sauce-key");
+        parameters.put("junit.jupiter.execution.parallel.config.scaffold.sauce-api-url",
+                "http://localhost:" + fakeGrid.getAddress().getPort());
+    }
+
+    private void respond(String path, String json) {
+        fakeGrid.createContext(path, exchange -> {
+            var body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+    }
+
+    private ConfigurationParameters configurationParameters() {
+        return new ConfigurationParameters() {
+            @Override
+            public Optional<String> get(String key) {
+                return Optional.ofNullable(parameters.get(key));
+            }
+
+            @Override
+            public Optional<Boolean> getBoolean(String key) {
+                return get(key).map(Boolean::valueOf);
+            }
+
+            @Override
+            public int size() {
+                return parameters.size();
+            }
+        };
+    }
+}
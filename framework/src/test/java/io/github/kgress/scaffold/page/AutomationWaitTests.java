@@ -2,12 +2,19 @@ package io.github.kgress.scaffold.page;
 
 import io.github.kgress.scaffold.AutomationWait;
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.PollingStrategy;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.WaitSpec;
 import io.github.kgress.scaffold.WebDriverWrapper;
 import io.github.kgress.scaffold.webelements.DivWebElement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -205,6 +212,65 @@ public class AutomationWaitTests extends BaseUnitTest {
         assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
     }
 
+    @Test
+    public void testWaitForCustomCondition_reusesWaitPerSpec() {
+        testAutomationWait.waitForCustomCondition(input -> true);
+        testAutomationWait.waitForCustomCondition(input -> true, TEMP_TIMEOUT);
+        testAutomationWait.waitForCustomCondition(input -> true, TEMP_TIMEOUT);
+        testAutomationWait.waitForCustomCondition(input -> true, BASE_TIMEOUT);
+
+        assertEquals(2, testAutomationWait.getWaits().size());
+        assertTrue(testAutomationWait.getWaits().containsKey(WaitSpec.of(TEMP_TIMEOUT)));
+    }
+
+    @Test
+    public void testWaitForCondition_ignoresExceptionsOfSpec() {
+        var attempts = new int[1];
+        var waitSpec = WaitSpec.of(BASE_TIMEOUT)
+                .withPollingIntervalInMillis(10L)
+                .ignoring(StaleElementReferenceException.class);
+
+        var result = testAutomationWait.waitForCondition(input -> {
+            if (attempts[0]++ == 0) {
+                throw new StaleElementReferenceException("detached");
+            }
+            return true;
+        }, waitSpec);
+
+        assertTrue(result);
+        assertEquals(2, attempts[0]);
+    }
+
+    @Test
+    public void testWaitForCustomCondition_tempTimeoutOnOtherThreadDoesNotChangeDefault() throws Exception {
+        var waiting = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var helperWait = CompletableFuture.supplyAsync(() ->
+                testAutomationWait.waitForCustomCondition(input -> {
+                    waiting.countDown();
+                    return release.getCount() == 0;
+                }, TEMP_TIMEOUT));
+
+        assertTrue(waiting.await(1, TimeUnit.SECONDS));
+        assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
+        assertEquals(WaitSpec.of(BASE_TIMEOUT), testAutomationWait.getDefaultWaitSpec());
+        release.countDown();
+        assertTrue(helperWait.get(TEMP_TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSetPollingStrategy_pollsWithStrategyAndKeepsTimeout() {
+        testAutomationWait.setPollingStrategy(PollingStrategy.backoff(List.of(5L, 10L), 2.0, 50L));
+        var polls = new int[1];
+
+        var start = System.nanoTime();
+        testAutomationWait.waitForCustomCondition(input -> ++polls[0] == 4);
+        var elapsedInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
+        assertTrue(elapsedInMillis < 500L, "Expected 3 short polls, waited " + elapsedInMillis + "ms");
+    }
+
     private static class TestAutomationWait extends AutomationWait {
         public TestAutomationWait(WebDriverWrapper webDriverWrapper, Long timeoutInSeconds) {
             super(webDriverWrapper, timeoutInSeconds);
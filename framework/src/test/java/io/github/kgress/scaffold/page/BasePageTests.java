@@ -4,17 +4,30 @@ import io.github.kgress.scaffold.AutomationWait;
 import io.github.kgress.scaffold.BasePage;
 import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.Locator;
+import io.github.kgress.scaffold.SharedTestVariables;
 import io.github.kgress.scaffold.webelements.DivWebElement;
 import io.github.kgress.scaffold.webelements.InputWebElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 public class BasePageTests extends BaseUnitTest {
@@ -90,6 +103,60 @@ public class BasePageTests extends BaseUnitTest {
         assertTrue(exception.getMessage().contains("The intended page failed to load"));
     }
 
+    @Test
+    public void verifyIsOnPage_batchDisabledChecksEachElement() {
+        var mockElement = mock(DivWebElement.class);
+        // The element could be checked in the browser, but batch page verification is disabled
+        lenient().when(mockElement.getLocator()).thenReturn(Locator.css(SharedTestVariables.CSS_SELECTOR1));
+        when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        when(mockElement.isDisplayed()).thenReturn(true);
+
+        assertTrue(testBasePage.verifyIsOnPage_callProtectedMethod(mockElement));
+        verify(mockJavascriptExecutor, never()).executeScript(anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void verifyIsOnPage_batchElementsDisplayed() {
+        testBasePage.batchPageVerification = true;
+        var firstElement = new TestBaseWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var secondElement = new TestBaseWebElement(By.id("password"), By.cssSelector(".modal"));
+        when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        setWhenCustomConditionApplied();
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(createScriptResult(true), createScriptResult(true)));
+
+        assertTrue(testBasePage.verifyIsOnPage_callProtectedMethod(firstElement, secondElement));
+
+        // Both elements are found in the browser with a single script call
+        var queriesCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), queriesCaptor.capture());
+        var queries = (List<Map<String, Object>>) queriesCaptor.getValue();
+        assertEquals("css selector", queries.get(0).get("using"));
+        assertEquals(SharedTestVariables.CSS_SELECTOR1, queries.get(0).get("value"));
+        assertEquals("id", queries.get(1).get("using"));
+        assertEquals(".modal", queries.get(1).get("parentValue"));
+        verify(firstElement.getWebElementWait(), never()).waitUntilDisplayed();
+    }
+
+    @Test
+    public void verifyIsOnPage_batchElementNotDisplayed() {
+        testBasePage.batchPageVerification = true;
+        var firstElement = new TestBaseWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var secondElement = new TestBaseWebElement(SharedTestVariables.MOCK_CHILD_ELEMENT_SELECTOR);
+        when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        setWhenCustomConditionApplied();
+        var scriptResults = new ArrayList<Map<String, Object>>();
+        scriptResults.add(createScriptResult(true));
+        scriptResults.add(null);
+        when(mockJavascriptExecutor.executeScript(anyString(), any())).thenReturn(scriptResults);
+
+        var exception = assertThrows(TimeoutException.class, () ->
+                testBasePage.verifyIsOnPage_callProtectedMethod(firstElement, secondElement));
+        assertTrue(exception.getMessage().contains(EXPECTED_FAILED_TEXT));
+        assertTrue(exception.getMessage().contains(SharedTestVariables.MOCK_CHILD_ELEMENT_SELECTOR));
+    }
+
     @Test
     public void waitUntilPageIsLoaded_targetFrameDetachedThrowsAfterFiveTries() {
         var spyAutomationWait = spy(new AutomationWait(mockWebDriverWrapper, 1L));
@@ -112,6 +179,29 @@ public class BasePageTests extends BaseUnitTest {
         assertTrue(spyAutomationWait.waitUntilPageIsLoaded());
     }
 
+    /**
+     * Applies the custom condition once, the same as the wait would on its last poll.
+     */
+    @SuppressWarnings("unchecked")
+    private void setWhenCustomConditionApplied() {
+        when(mockAutomationWait.waitForCustomCondition(any(ExpectedCondition.class))).thenAnswer(invocation -> {
+            var condition = (ExpectedCondition<Boolean>) invocation.getArgument(0);
+            if (!condition.apply(mockBaseWebDriver)) {
+                throw new TimeoutException("Condition was not met");
+            }
+            return true;
+        });
+    }
+
+    private Map<String, Object> createScriptResult(boolean displayed) {
+        var scriptResult = new HashMap<String, Object>();
+        scriptResult.put("text", SharedTestVariables.TEXT_1);
+        scriptResult.put("tagName", "div");
+        scriptResult.put("displayed", displayed);
+        scriptResult.put("enabled", true);
+        return scriptResult;
+    }
+
     /**
      * This nested class is only intended for unit testing purposes. It should never be used for production code. We
      * required a mocked automation wait in order to properly set the
@@ -119,11 +209,23 @@ public class BasePageTests extends BaseUnitTest {
      */
     class TestPage extends BasePage {
 
+        private boolean batchPageVerification = false;
+
+        @Override
+        protected boolean isBatchPageVerificationEnabled() {
+            return batchPageVerification;
+        }
+
         @Override
         public AutomationWait getAutomationWait() {
             return mockAutomationWait;
         }
 
+        @Override
+        public JavascriptExecutor getJavascriptExecutor() {
+            return mockJavascriptExecutor;
+        }
+
         Boolean verifyIsOnPage_callProtectedMethod(BaseWebElement... element) {
             return verifyIsOnPage(element);
         }
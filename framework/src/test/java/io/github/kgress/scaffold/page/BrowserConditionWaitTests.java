@@ -0,0 +1,175 @@
+package io.github.kgress.scaffold.page;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.AutomationWait;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.Locator;
+import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.webelements.DivWebElement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+public class BrowserConditionWaitTests extends BaseUnitTest {
+
+    private final static Long BASE_TIMEOUT = 1L;
+
+    private final TestBaseWebElement element = new TestBaseWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private AutomationWait automationWait;
+
+    @Mock
+    private WebDriver.Options mockOptions;
+
+    @Mock
+    private WebDriver.Timeouts mockTimeouts;
+
+    @BeforeEach
+    public void setup() {
+        automationWait = new AutomationWait(mockWebDriverWrapper, BASE_TIMEOUT);
+        lenient().when(mockWebDriverWrapper.isBrowserConditionWaitEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        lenient().when(mockWebDriverWrapper.manage()).thenReturn(mockOptions);
+        lenient().when(mockOptions.timeouts()).thenReturn(mockTimeouts);
+    }
+
+    @Test
+    public void testWaitUntilDisplayed_returnsElementFromBrowser() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("displayed"), isNull(),
+                eq(TimeUnit.SECONDS.toMillis(BASE_TIMEOUT)))).thenReturn(mockRawWebElement);
+
+        assertSame(mockRawWebElement, automationWait.waitUntilDisplayed(element));
+        verify(mockTimeouts, never()).setScriptTimeout(anyLong(), any());
+    }
+
+    @Test
+    public void testWaitUntilDisplayed_restoresScriptTimeoutAfterLongWait() {
+        var longTimeout = 60L;
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("displayed"), isNull(),
+                eq(TimeUnit.SECONDS.toMillis(longTimeout)))).thenReturn(mockRawWebElement);
+
+        assertSame(mockRawWebElement, automationWait.waitUntilDisplayed(element, longTimeout));
+
+        var inOrder = inOrder(mockTimeouts, mockJavascriptExecutor);
+        inOrder.verify(mockTimeouts).setScriptTimeout(62L, TimeUnit.SECONDS);
+        inOrder.verify(mockJavascriptExecutor).executeAsyncScript(anyString(), any());
+        inOrder.verify(mockTimeouts).setScriptTimeout(30L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWaitForTextToContain_doesNotPoll() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("text contains"),
+                eq(SharedTestVariables.TEXT_1), any())).thenReturn(mockRawWebElement);
+
+        assertTrue(automationWait.waitForTextToContain(element, SharedTestVariables.TEXT_1));
+        verify(mockJavascriptExecutor, times(1)).executeAsyncScript(anyString(), any());
+    }
+
+    @Test
+    public void testWaitForTextToContain_pollsWhenPageUnloads() {
+        var mockDivWebElement = mock(DivWebElement.class);
+        when(mockDivWebElement.getLocator()).thenReturn(Locator.css(SharedTestVariables.CSS_SELECTOR1));
+        when(mockDivWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+        when(mockWebDriverWrapper.getBaseWebDriver()).thenReturn(mockBaseWebDriver);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("text contains"),
+                eq(SharedTestVariables.TEXT_1), any()))
+                .thenThrow(new JavascriptException("document unloaded while waiting for result"));
+
+        assertTrue(automationWait.waitForTextToContain(mockDivWebElement, SharedTestVariables.TEXT_1));
+    }
+
+    @Test
+    public void testWaitForTextToContain_doesNotStartTimeoutOverWhenPageUnloads() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("text contains"),
+                eq(SharedTestVariables.TEXT_1), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(BASE_TIMEOUT) + 100);
+                    throw new JavascriptException("document unloaded while waiting for result");
+                });
+
+        var start = System.nanoTime();
+        assertThrows(TimeoutException.class, () ->
+                automationWait.waitForTextToContain(element, SharedTestVariables.TEXT_1));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2 * TimeUnit.SECONDS.toMillis(BASE_TIMEOUT));
+    }
+
+    @Test
+    public void testWaitForElementToHaveClass_throwsTimeoutWhenNotMet() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq("has class"),
+                eq(SharedTestVariables.CLASS_NAME), any())).thenReturn(null);
+
+        assertThrows(TimeoutException.class, () ->
+                automationWait.waitForElementToHaveClass(element, SharedTestVariables.CLASS_NAME));
+    }
+
+    @Test
+    public void testWaitForScriptCondition_returnsValueFromBrowser() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), eq(TimeUnit.SECONDS.toMillis(2L)), eq(".result")))
+                .thenReturn(Map.of("value", 3L));
+
+        assertEquals(3L, automationWait.waitForScriptCondition(
+                "return document.querySelectorAll(arguments[0]).length;", List.of(".result"), 2L));
+    }
+
+    @Test
+    public void testWaitForScriptCondition_passesNullArguments() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyLong(), isNull()))
+                .thenReturn(Map.of("value", true));
+
+        assertEquals(true, automationWait.waitForScriptCondition("return arguments[0] === null;", (Object) null));
+    }
+
+    @Test
+    public void testWaitForScriptCondition_throwsTimeoutWhenNotMet() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyLong())).thenReturn(Map.of("timedOut", true));
+
+        assertThrows(TimeoutException.class, () -> automationWait.waitForScriptCondition("return false;"));
+    }
+
+    @Test
+    public void testWaitForScriptCondition_throwsWhenPredicateFails() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyLong()))
+                .thenReturn(Map.of("error", "ReferenceError: missing is not defined"));
+
+        assertThrows(JavascriptException.class, () -> automationWait.waitForScriptCondition("return missing;"));
+    }
+
+    @Test
+    public void testWaitUntilElementIsEnabled_pollsInBrowser() {
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyLong(), anyMap()))
+                .thenReturn(Map.of("value", mockRawWebElement));
+
+        assertTrue(automationWait.waitUntilElementIsEnabled(element));
+    }
+
+    @Test
+    public void testWaitForNetworkIdle_pollsQuietPeriodInBrowser() {
+        when(mockWebDriverWrapper.getNetworkIdleQuietPeriodInMillis()).thenReturn(500L);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyLong(), eq(500L)))
+                .thenReturn(Map.of("value", true));
+
+        assertTrue(automationWait.waitForNetworkIdle());
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.kgress.scaffold.page;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.kgress.scaffold.PollingStrategy;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class PollingStrategyTests {
+
+    @Test
+    public void testFixed_alwaysSleepsForInterval() {
+        var pollingStrategy = PollingStrategy.fixed(500L);
+        assertEquals(500L, pollingStrategy.getIntervalInMillis(1));
+        assertEquals(500L, pollingStrategy.getIntervalInMillis(20));
+    }
+
+    @Test
+    public void testBackoff_pollsQuicklyThenBacksOffToCeiling() {
+        var pollingStrategy = PollingStrategy.backoff(List.of(25L, 50L, 100L), 2.0, 1000L);
+        var intervals = IntStream.rangeClosed(1, 9)
+                .mapToObj(pollingStrategy::getIntervalInMillis)
+                .collect(Collectors.toList());
+        assertEquals(List.of(25L, 50L, 100L, 200L, 400L, 800L, 1000L, 1000L, 1000L), intervals);
+    }
+
+    @Test
+    public void testBackoff_equalStrategiesAreEqual() {
+        assertEquals(PollingStrategy.backoff(List.of(25L, 50L), 2.0, 1000L),
+                PollingStrategy.backoff(List.of(25L, 50L), 2.0, 1000L));
+        assertThrows(IllegalArgumentException.class, () -> PollingStrategy.backoff(List.of(), 2.0, 1000L));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.kgress.scaffold.page;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.AutomationWait;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.WaitTelemetry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+public class WaitTelemetryTests extends BaseUnitTest {
+
+    private final static Long BASE_TIMEOUT = 1L;
+    private final static String TEST_NAME = "testCheckout";
+
+    private final TestBaseWebElement element = new TestBaseWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private final WaitTelemetry waitTelemetry = new WaitTelemetry();
+    private AutomationWait automationWait;
+
+    @BeforeEach
+    public void setup() {
+        automationWait = new AutomationWait(mockWebDriverWrapper, BASE_TIMEOUT);
+        automationWait.setWaitTelemetry(waitTelemetry);
+        automationWait.setTelemetryTestName(TEST_NAME);
+        lenient().when(mockWebDriverWrapper.getBaseWebDriver()).thenReturn(mockBaseWebDriver);
+    }
+
+    @Test
+    public void testWaitForCustomCondition_recordsPollsAndOutcome() {
+        var polls = new int[1];
+        automationWait.waitForCustomCondition(input -> ++polls[0] == 2);
+        assertThrows(TimeoutException.class, () -> automationWait.waitForCustomCondition(input -> false));
+
+        var histograms = waitTelemetry.getHistograms();
+        assertEquals(1, histograms.size());
+        var key = histograms.get(0).getKey();
+        var histogram = histograms.get(0).getValue();
+        assertEquals(TEST_NAME, key.getTestName());
+        assertEquals("custom condition", key.getCondition());
+        assertNull(key.getLocator());
+        assertEquals(2, histogram.getCount());
+        assertEquals(1, histogram.getTimeouts());
+        assertTrue(histogram.getPolls() >= 3);
+        assertTrue(histogram.getMaxShareOfTimeout() >= 1.0);
+    }
+
+    @Test
+    public void testWaitUntilDisplayed_recordsLocatorOnceForNestedWait() {
+        when(mockBaseWebDriver.findElement(By.cssSelector(SharedTestVariables.CSS_SELECTOR1)))
+                .thenReturn(mockRawWebElement);
+        when(mockRawWebElement.isDisplayed()).thenReturn(true);
+
+        automationWait.waitUntilDisplayed(element);
+
+        var histograms = waitTelemetry.getHistograms();
+        assertEquals(1, histograms.size());
+        assertEquals("displayed", histograms.get(0).getKey().getCondition());
+        assertEquals(By.cssSelector(SharedTestVariables.CSS_SELECTOR1).toString(),
+                histograms.get(0).getKey().getLocator());
+        assertEquals(1, histograms.get(0).getValue().getPolls());
+    }
+
+    @Test
+    public void testWaitForCustomCondition_recordsLocatorOfExpectedCondition() {
+        var by = By.cssSelector(SharedTestVariables.CSS_SELECTOR1);
+        when(mockBaseWebDriver.findElement(by)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.isDisplayed()).thenReturn(true);
+
+        automationWait.waitForCustomCondition(ExpectedConditions.visibilityOfElementLocated(by));
+
+        var key = waitTelemetry.getHistograms().get(0).getKey();
+        assertEquals("visibilityOfElementLocated", key.getCondition());
+        assertEquals(by.toString(), key.getLocator());
+    }
+
+    @Test
+    public void testExportReport_writesReportFile(@TempDir Path tempDir) throws IOException {
+        var reportFile = tempDir.resolve("wait-telemetry.txt");
+        var fileTelemetry = new WaitTelemetry(reportFile.toString());
+        fileTelemetry.record(TEST_NAME, "quick", null, 1L, () -> true);
+
+        fileTelemetry.exportReport();
+
+        assertEquals(fileTelemetry.getReport(), Files.readString(reportFile));
+    }
+
+    @Test
+    public void testGetReport_sortsByTotalTimeSpentWaiting() {
+        waitTelemetry.record(TEST_NAME, "quick", null, 1L, () -> true);
+        waitTelemetry.record(TEST_NAME, "slow", null, 1L, () -> {
+            automationWait.waitForCustomCondition(ExpectedConditions.not(input -> false));
+            return sleepThenReturn(50L);
+        });
+
+        var histograms = waitTelemetry.getHistograms();
+        assertEquals("slow", histograms.get(0).getKey().getCondition());
+        assertEquals("quick", histograms.get(1).getKey().getCondition());
+        var report = waitTelemetry.getReport();
+        assertTrue(report.startsWith("Wait telemetry: 2 waits"));
+        assertTrue(report.indexOf("slow") < report.indexOf("quick"));
+    }
+
+    private boolean sleepThenReturn(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+}
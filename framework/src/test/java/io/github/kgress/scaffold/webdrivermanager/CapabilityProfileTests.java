@@ -0,0 +1,88 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.CapabilityProfile;
+import io.github.kgress.scaffold.TestContext;
+import io.github.kgress.scaffold.TestContextSetting;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CapabilityProfileTests extends BaseUnitTest {
+
+    private static final String SAUCE_OPTIONS = "sauce:options";
+
+    @Test
+    public void testNewSessionCapabilitiesKeepsOptionsType() {
+        var chromeOptions = new ChromeOptions().setAcceptInsecureCerts(true).addArguments("--window-size=1440,900");
+        var capabilityProfile = new CapabilityProfile(RunType.LOCAL, chromeOptions, null);
+
+        var sessionCapabilities = capabilityProfile.newSessionCapabilities("Local Test");
+
+        assertTrue(sessionCapabilities instanceof ChromeOptions);
+        assertTrue(sessionCapabilities.is("acceptInsecureCerts"));
+        assertEquals(List.of("--window-size=1440,900"), getChromeArguments(sessionCapabilities));
+    }
+
+    @Test
+    public void testNewSessionCapabilitiesPatchesSauceName() {
+        var sauceOptions = new MutableCapabilities();
+        sauceOptions.setCapability("username", "user");
+        var chromeOptions = new ChromeOptions();
+        chromeOptions.setCapability(SAUCE_OPTIONS, sauceOptions);
+        var capabilityProfile = new CapabilityProfile(RunType.SAUCE, chromeOptions, "https://sauce.test/wd/hub");
+
+        var firstSession = capabilityProfile.newSessionCapabilities("First Test");
+        var secondSession = capabilityProfile.newSessionCapabilities("Second Test");
+
+        var firstSauceOptions = (Capabilities) firstSession.getCapability(SAUCE_OPTIONS);
+        var secondSauceOptions = (Capabilities) secondSession.getCapability(SAUCE_OPTIONS);
+        assertNotSame(firstSauceOptions, secondSauceOptions);
+        assertEquals("First Test", firstSauceOptions.getCapability("name"));
+        assertEquals("Second Test", secondSauceOptions.getCapability("name"));
+        assertEquals("user", secondSauceOptions.getCapability("username"));
+        assertNull(((Capabilities) capabilityProfile.getTemplate().getCapability(SAUCE_OPTIONS)).getCapability("name"));
+    }
+
+    @Test
+    public void testNewSessionCapabilitiesPatchesGridUuid() {
+        TestContext.baseContext().addSetting(TestContextSetting.TEST_RUN_ID, "capability-profile-run");
+        var capabilityProfile = new CapabilityProfile(RunType.GRID, new ChromeOptions(), "http://grid.test/wd/hub");
+
+        var sessionCapabilities = capabilityProfile.newSessionCapabilities("Grid Test");
+
+        assertEquals("capability-profile-run", sessionCapabilities.getCapability("uuid"));
+        assertNull(capabilityProfile.getTemplate().getCapability("uuid"));
+    }
+
+    @Test
+    public void testNewSessionCapabilitiesLeavesOutTestCapabilitiesForPreWarmedSession() {
+        TestContext.baseContext().addSetting(TestContextSetting.TEST_RUN_ID, "capability-profile-run");
+        var chromeOptions = new ChromeOptions();
+        chromeOptions.setCapability(SAUCE_OPTIONS, new MutableCapabilities());
+        var sauceProfile = new CapabilityProfile(RunType.SAUCE, chromeOptions, "https://sauce.test/wd/hub");
+        var gridProfile = new CapabilityProfile(RunType.GRID, new ChromeOptions(), "http://grid.test/wd/hub");
+
+        var sauceSession = sauceProfile.newSessionCapabilities(null);
+        var gridSession = gridProfile.newSessionCapabilities(null);
+
+        assertNull(((Capabilities) sauceSession.getCapability(SAUCE_OPTIONS)).getCapability("name"));
+        assertNull(gridSession.getCapability("uuid"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getChromeArguments(Capabilities capabilities) {
+        var chromeOptions = (Map<String, Object>) capabilities.getCapability(ChromeOptions.CAPABILITY);
+        return (List<String>) chromeOptions.get("args");
+    }
+}
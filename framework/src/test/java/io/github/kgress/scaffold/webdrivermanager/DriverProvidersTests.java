@@ -0,0 +1,76 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.DriverProviders;
+import io.github.kgress.scaffold.MockDriverProvider;
+import io.github.kgress.scaffold.UnselectedMockDriverProvider;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import io.github.kgress.scaffold.providers.ChromeDriverProvider;
+import io.github.kgress.scaffold.providers.SafariDriverProvider;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DriverProvidersTests extends BaseUnitTest {
+
+    @Test
+    public void testEveryBrowserTypeHasAProvider() {
+        for (var browserType : BrowserType.values()) {
+            DriverProviders.forBrowserType(browserType);
+        }
+        assertTrue(DriverProviders.forBrowserType(BrowserType.CHROME) instanceof ChromeDriverProvider);
+        assertTrue(DriverProviders.forBrowserType(BrowserType.SAFARI) instanceof SafariDriverProvider);
+        assertSame(DriverProviders.forBrowserType(BrowserType.CHROME), DriverProviders.forBrowserType(BrowserType.CHROME));
+    }
+
+    @Test
+    public void testBrowserProviderCreatesBrowserOptions() {
+        var desiredCapabilities = new DesiredCapabilitiesConfigurationProperties();
+
+        var browserOptions = DriverProviders.forBrowserType(BrowserType.CHROME).createBrowserOptions(desiredCapabilities);
+
+        assertTrue(browserOptions instanceof ChromeOptions);
+        assertTrue(browserOptions.is("acceptInsecureCerts"));
+    }
+
+    @Test
+    public void testCustomRunTypeOnlyInitializesTheSelectedProvider() {
+        var driverProvider = DriverProviders.forCustomRunType(MockDriverProvider.CUSTOM_RUN_TYPE);
+
+        assertTrue(driverProvider instanceof MockDriverProvider);
+        assertEquals("mock", driverProvider.createBrowserOptions(null).getBrowserName());
+        assertNull(System.getProperty(UnselectedMockDriverProvider.INITIALIZED_PROPERTY));
+    }
+
+    @Test
+    public void testCapabilityProfileIsRebuiltWhenConfigurationChanges() {
+        var customCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        customCapabilities.setRunType(RunType.CUSTOM);
+        customCapabilities.setCustomRunType(MockDriverProvider.CUSTOM_RUN_TYPE);
+        customCapabilities.setBrowserVersion("profile-" + System.nanoTime());
+        var created = MockDriverProvider.BROWSER_OPTIONS_CREATED.get();
+
+        new TestWebDriverManager(customCapabilities, seleniumGridRestTemplate).initDriver_fromParent("First Test");
+        new TestWebDriverManager(customCapabilities, seleniumGridRestTemplate).initDriver_fromParent("Second Test");
+        assertEquals(created + 1, MockDriverProvider.BROWSER_OPTIONS_CREATED.get());
+
+        // The same bean is changed in place, which builds a new profile
+        customCapabilities.setBrowserVersion("profile-" + System.nanoTime());
+        new TestWebDriverManager(customCapabilities, seleniumGridRestTemplate).initDriver_fromParent("Third Test");
+        assertEquals(created + 2, MockDriverProvider.BROWSER_OPTIONS_CREATED.get());
+    }
+
+    @Test
+    public void testUnknownCustomRunTypeThrows() {
+        assertThrows(WebDriverManagerException.class, () -> DriverProviders.forCustomRunType("unknown"));
+        assertThrows(WebDriverManagerException.class, () -> DriverProviders.forCustomRunType(null));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.GridSessionRegistrar;
+import io.github.kgress.scaffold.models.GridSessionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GridSessionRegistrarTests extends BaseUnitTest {
+
+    private static final String TEST_SESSION_PATH = "/grid/api/testsession?session=grid-session";
+
+    private final RestTemplate seleniumGridRestTemplate = mock(RestTemplate.class);
+
+    @Test
+    public void testRegisterDoesNotBlockTheCaller() throws Exception {
+        var responseSent = new CountDownLatch(1);
+        var gridSessionResponse = new GridSessionResponse();
+        gridSessionResponse.setProxyId("http://node-1:5555");
+        when(seleniumGridRestTemplate.getForObject(eq(TEST_SESSION_PATH), eq(GridSessionResponse.class), any(HttpEntity.class)))
+                .thenAnswer(invocation -> {
+                    responseSent.await();
+                    return gridSessionResponse;
+                });
+        var registrar = new GridSessionRegistrar(seleniumGridRestTemplate, Duration.ofSeconds(5));
+
+        var registration = registrar.register("grid-session");
+        assertFalse(registration.isDone());
+
+        responseSent.countDown();
+        assertEquals("http://node-1:5555", registration.get(5, TimeUnit.SECONDS).getProxyId());
+    }
+
+    @Test
+    public void testRegisterTimesOut() {
+        when(seleniumGridRestTemplate.getForObject(eq(TEST_SESSION_PATH), eq(GridSessionResponse.class), any(HttpEntity.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(2000);
+                    return new GridSessionResponse();
+                });
+        var registrar = new GridSessionRegistrar(seleniumGridRestTemplate, Duration.ofMillis(50));
+
+        var exception = assertThrows(ExecutionException.class, () -> registrar.register("grid-session").get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    public void testRegisterCompletesExceptionallyWhenTheGridFails() {
+        when(seleniumGridRestTemplate.getForObject(eq(TEST_SESSION_PATH), eq(GridSessionResponse.class), any(HttpEntity.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        var registrar = new GridSessionRegistrar(seleniumGridRestTemplate, Duration.ofSeconds(5));
+
+        var exception = assertThrows(ExecutionException.class, () -> registrar.register("grid-session").get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof ResourceAccessException);
+    }
+
+    @Test
+    public void testWithRequestTimeoutTimesOutTheRequest() throws Exception {
+        var slowGrid = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        slowGrid.createContext("/grid/api/testsession", exchange -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        slowGrid.start();
+        try {
+            var restTemplate = new RestTemplateBuilder()
+                    .rootUri("http://localhost:" + slowGrid.getAddress().getPort())
+                    .build();
+            var timedRestTemplate = GridSessionRegistrar.withRequestTimeout(restTemplate, Duration.ofMillis(200));
+            assertSame(timedRestTemplate, GridSessionRegistrar.withRequestTimeout(restTemplate, Duration.ofMillis(200)));
+
+            var start = System.nanoTime();
+            assertThrows(ResourceAccessException.class, () ->
+                    timedRestTemplate.getForObject(TEST_SESSION_PATH, GridSessionResponse.class));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 4000);
+        } finally {
+            slowGrid.stop(0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.EndpointCircuitBreaker;
+import io.github.kgress.scaffold.SessionAcquisitionPolicy;
+import io.github.kgress.scaffold.SessionAdmissionController;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the policy against a local fake endpoint that fails every new session request the same way a saturated Grid
+ * hub does.
+ */
+public class SessionAcquisitionPolicyTests extends BaseUnitTest {
+
+    private static final String SESSION_NOT_CREATED =
+            "{\"value\": {\"error\": \"session not created\", \"message\": \"Grid is full\"}}";
+
+    private final AtomicInteger sessionRequests = new AtomicInteger();
+    private HttpServer fakeEndpoint;
+    private URL remoteUrl;
+
+    @BeforeEach
+    public void startFakeEndpoint() throws Exception {
+        fakeEndpoint = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeEndpoint.createContext("/wd/hub/session", exchange -> {
+            sessionRequests.incrementAndGet();
+            var body = SESSION_NOT_CREATED.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(500, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        fakeEndpoint.start();
+        remoteUrl = new URL("http://localhost:" + fakeEndpoint.getAddress().getPort() + "/wd/hub");
+    }
+
+    @AfterEach
+    public void stopFakeEndpoint() {
+        fakeEndpoint.stop(0);
+    }
+
+    @Test
+    public void testAcquireRetriesUntilAttemptsRunOut() {
+        var circuitBreaker = new EndpointCircuitBreaker(remoteUrl.toString(), 0, Duration.ofMinutes(1));
+        var policy = new SessionAcquisitionPolicy(3, Duration.ofMillis(10), Duration.ofMillis(20), circuitBreaker);
+
+        assertThrows(WebDriverException.class, () -> policy.acquire(this::startSession));
+        assertEquals(3, sessionRequests.get());
+    }
+
+    @Test
+    public void testCircuitBreakerOpensAndFailsFast() {
+        var circuitBreaker = new EndpointCircuitBreaker(remoteUrl.toString(), 2, Duration.ofMinutes(1));
+        var policy = new SessionAcquisitionPolicy(5, Duration.ofMillis(10), Duration.ofMillis(20), circuitBreaker);
+
+        assertThrows(WebDriverException.class, () -> policy.acquire(this::startSession));
+        assertEquals(2, sessionRequests.get());
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // The next worker fails fast without reaching the endpoint
+        assertThrows(WebDriverManagerException.class, () -> policy.acquire(this::startSession));
+        assertEquals(2, sessionRequests.get());
+    }
+
+    @Test
+    public void testCircuitBreakerClosesAfterSuccessfulTrial() {
+        var circuitBreaker = new EndpointCircuitBreaker(remoteUrl.toString(), 1, Duration.ZERO);
+        var policy = new SessionAcquisitionPolicy(1, Duration.ofMillis(10), Duration.ofMillis(20), circuitBreaker);
+
+        assertThrows(WebDriverException.class, () -> policy.acquire(this::startSession));
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals("session", policy.acquire(() -> "session"));
+        assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testCircuitBreakerReopensWhenTrialFailsWithoutWebDriverException() {
+        var circuitBreaker = new EndpointCircuitBreaker(remoteUrl.toString(), 1, Duration.ZERO);
+        var policy = new SessionAcquisitionPolicy(1, Duration.ofMillis(10), Duration.ofMillis(20), circuitBreaker);
+
+        assertThrows(WebDriverException.class, () -> policy.acquire(this::startSession));
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        // The trial times out waiting for admission, which must not leave the breaker half open
+        assertThrows(WebDriverManagerException.class, () -> policy.acquire(() -> {
+            throw new WebDriverManagerException("Timed out waiting for admission");
+        }));
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertEquals("session", policy.acquire(() -> "session"));
+        assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testAdmissionTimeoutLeavesClosedCircuitBreakerClosed() throws Exception {
+        var circuitBreaker = new EndpointCircuitBreaker(remoteUrl.toString(), 1, Duration.ofMinutes(1));
+        var policy = new SessionAcquisitionPolicy(1, Duration.ofMillis(10), Duration.ofMillis(20), circuitBreaker);
+        var admissionController = new SessionAdmissionController(remoteUrl.toString(), 1, Duration.ofMillis(50));
+        var admitted = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var inFlight = new Thread(() -> admissionController.admit(() -> {
+            admitted.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }));
+        inFlight.start();
+        admitted.await(10, TimeUnit.SECONDS);
+
+        try {
+            for (var worker = 0; worker < 3; worker++) {
+                assertThrows(WebDriverManagerException.class,
+                        () -> policy.acquire(() -> admissionController.admit(() -> "session")));
+            }
+            assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+            assertEquals(0, sessionRequests.get());
+        } finally {
+            release.countDown();
+            inFlight.join();
+        }
+    }
+
+    private RemoteWebDriver startSession() {
+        return new RemoteWebDriver(remoteUrl, new ImmutableCapabilities("browserName", "chrome"));
+    }
+}
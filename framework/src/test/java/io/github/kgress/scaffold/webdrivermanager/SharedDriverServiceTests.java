@@ -0,0 +1,171 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedDriverService;
+import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts sessions against mocked driver processes that all point at a local fake endpoint answering the new session
+ * and quit commands.
+ */
+public class SharedDriverServiceTests extends BaseUnitTest {
+
+    private static final String NEW_SESSION =
+            "{\"value\": {\"sessionId\": \"shared-session-%d\", \"capabilities\": {\"browserName\": \"chrome\"}}}";
+
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicInteger servicesCreated = new AtomicInteger();
+    private HttpServer fakeEndpoint;
+    private URL serviceUrl;
+
+    @BeforeEach
+    public void startFakeEndpoint() throws Exception {
+        fakeEndpoint = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fakeEndpoint.createContext("/session", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, String.format(NEW_SESSION, sessionCount.incrementAndGet()));
+            } else {
+                respond(exchange, "{\"value\": null}");
+            }
+        });
+        fakeEndpoint.start();
+        serviceUrl = new URL("http://localhost:" + fakeEndpoint.getAddress().getPort());
+    }
+
+    @AfterEach
+    public void stopFakeEndpoint() {
+        fakeEndpoint.stop(0);
+    }
+
+    @Test
+    public void testMultiSessionServiceIsStartedOnce() {
+        var sharedDriverService = new SharedDriverService(BrowserType.CHROME, true, this::newDriverService);
+
+        var firstSession = sharedDriverService.startSession(new ImmutableCapabilities("browserName", "chrome"));
+        var secondSession = sharedDriverService.startSession(new ImmutableCapabilities("browserName", "chrome"));
+        firstSession.quit();
+        sharedDriverService.startSession(new ImmutableCapabilities("browserName", "chrome"));
+
+        assertEquals("shared-session-2", secondSession.getSessionId().toString());
+        assertEquals(1, servicesCreated.get());
+        assertEquals(1, sharedDriverService.getStartedCount());
+    }
+
+    @Test
+    public void testSingleSessionServiceIsLeasedAndReused() {
+        var sharedDriverService = new SharedDriverService(BrowserType.FIREFOX, false, this::newDriverService);
+
+        var firstSession = sharedDriverService.startSession(new ImmutableCapabilities("browserName", "firefox"));
+        sharedDriverService.startSession(new ImmutableCapabilities("browserName", "firefox"));
+        assertEquals(2, servicesCreated.get());
+
+        firstSession.quit();
+        sharedDriverService.startSession(new ImmutableCapabilities("browserName", "firefox"));
+
+        assertEquals(2, servicesCreated.get());
+        assertEquals(3, sessionCount.get());
+    }
+
+    @Test
+    public void testSingleSessionServicesStartInParallel() throws Exception {
+        // Each start only returns once both workers are starting a process at the same time
+        var starting = new CountDownLatch(2);
+        var sharedDriverService = new SharedDriverService(BrowserType.FIREFOX, false, () -> {
+            var driverService = newDriverService();
+            try {
+                doAnswer(invocation -> {
+                    starting.countDown();
+                    if (!starting.await(10, TimeUnit.SECONDS)) {
+                        throw new IOException("Driver processes were started one at a time");
+                    }
+                    return null;
+                }).when(driverService).start();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return driverService;
+        });
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var firstSession = executor.submit(
+                    () -> sharedDriverService.startSession(new ImmutableCapabilities("browserName", "firefox")));
+            var secondSession = executor.submit(
+                    () -> sharedDriverService.startSession(new ImmutableCapabilities("browserName", "firefox")));
+            firstSession.get(20, TimeUnit.SECONDS);
+            secondSession.get(20, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, sharedDriverService.getStartedCount());
+    }
+
+    @Test
+    public void testMultiSessionServiceWaitsForTheStartingProcess() throws Exception {
+        var releaseStart = new CountDownLatch(1);
+        var sharedDriverService = new SharedDriverService(BrowserType.CHROME, true, () -> {
+            var driverService = newDriverService();
+            try {
+                doAnswer(invocation -> releaseStart.await(10, TimeUnit.SECONDS)).when(driverService).start();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return driverService;
+        });
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var firstSession = executor.submit(
+                    () -> sharedDriverService.startSession(new ImmutableCapabilities("browserName", "chrome")));
+            var secondSession = executor.submit(
+                    () -> sharedDriverService.startSession(new ImmutableCapabilities("browserName", "chrome")));
+            releaseStart.countDown();
+            firstSession.get(20, TimeUnit.SECONDS);
+            secondSession.get(20, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, servicesCreated.get());
+        assertEquals(1, sharedDriverService.getStartedCount());
+    }
+
+    private DriverService newDriverService() {
+        servicesCreated.incrementAndGet();
+        var driverService = mock(DriverService.class);
+        when(driverService.getUrl()).thenReturn(serviceUrl);
+        lenient().when(driverService.isRunning()).thenReturn(true);
+        return driverService;
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        var body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
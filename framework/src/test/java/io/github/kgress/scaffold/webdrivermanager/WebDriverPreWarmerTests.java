@@ -0,0 +1,80 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverPreWarmer;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebDriverPreWarmerTests extends BaseUnitTest {
+
+    @Test
+    public void testClaimWithoutPreWarmedSessionStartsNewSession() {
+        var newWebDriver = mock(WebDriver.class);
+        var claimedWebDriver = new AtomicReference<WebDriver>();
+
+        assertSame(newWebDriver, WebDriverPreWarmer.claim(() -> newWebDriver, claimedWebDriver::set));
+        assertNull(claimedWebDriver.get());
+    }
+
+    @Test
+    public void testClaimReturnsPreWarmedSession() {
+        var preWarmedWebDriver = mock(WebDriver.class);
+        var claimedWebDriver = new AtomicReference<WebDriver>();
+
+        WebDriverPreWarmer.preWarm(() -> preWarmedWebDriver);
+
+        assertSame(preWarmedWebDriver, WebDriverPreWarmer.claim(() -> mock(WebDriver.class), claimedWebDriver::set));
+        assertSame(preWarmedWebDriver, claimedWebDriver.get());
+    }
+
+    @Test
+    public void testClaimFallsBackWhenPreWarmFails() {
+        var newWebDriver = mock(WebDriver.class);
+
+        WebDriverPreWarmer.preWarm(() -> {
+            throw new SessionNotCreatedException("Grid is full");
+        });
+
+        assertSame(newWebDriver, WebDriverPreWarmer.claim(() -> newWebDriver, claimed -> {}));
+    }
+
+    @Test
+    public void testClaimFallsBackWhenPreWarmedSessionTimedOut() {
+        var preWarmedWebDriver = mock(WebDriver.class);
+        var newWebDriver = mock(WebDriver.class);
+        var claimedWebDriver = new AtomicReference<WebDriver>();
+        when(preWarmedWebDriver.getWindowHandle()).thenThrow(new NoSuchSessionException("Session timed out"));
+
+        WebDriverPreWarmer.preWarm(() -> preWarmedWebDriver);
+
+        assertSame(newWebDriver, WebDriverPreWarmer.claim(() -> newWebDriver, claimedWebDriver::set));
+        assertNull(claimedWebDriver.get());
+        verify(preWarmedWebDriver).quit();
+    }
+
+    @Test
+    public void testClaimFallsBackWhenClaimFails() {
+        var preWarmedWebDriver = mock(WebDriver.class);
+        var newWebDriver = mock(WebDriver.class);
+
+        WebDriverPreWarmer.preWarm(() -> preWarmedWebDriver);
+
+        assertSame(newWebDriver, WebDriverPreWarmer.claim(() -> newWebDriver, claimed -> {
+            throw new WebDriverException("sauce:job-name failed");
+        }));
+        verify(preWarmedWebDriver).quit();
+        verify(newWebDriver, never()).quit();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverQuitter;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+public class WebDriverQuitterTests extends BaseUnitTest {
+
+    @Test
+    public void testQuitRetriesTransientFailureOnce() {
+        var quitter = new WebDriverQuitter(1, 1, Duration.ofSeconds(10));
+        var webDriver = mock(WebDriver.class);
+        doThrow(new WebDriverException("Connection reset")).doNothing().when(webDriver).quit();
+
+        quitter.quit(webDriver);
+        quitter.drain();
+
+        verify(webDriver, times(2)).quit();
+    }
+
+    @Test
+    public void testQuitDoesNotRetryMissingSession() {
+        var quitter = new WebDriverQuitter(1, 1, Duration.ofSeconds(10));
+        var webDriver = mock(WebDriver.class);
+        doThrow(new NoSuchSessionException("Session is gone")).when(webDriver).quit();
+
+        quitter.quit(webDriver);
+        quitter.drain();
+
+        verify(webDriver, times(1)).quit();
+    }
+
+    @Test
+    public void testDrainQuitsEveryQueuedDriver() {
+        var quitter = new WebDriverQuitter(1, 2, Duration.ofSeconds(10));
+        var webDrivers = new WebDriver[] { mock(WebDriver.class), mock(WebDriver.class), mock(WebDriver.class),
+                mock(WebDriver.class) };
+
+        // With one thread and a queue of two, at least one of these quits runs on the test thread
+        for (var webDriver : webDrivers) {
+            quitter.quit(webDriver);
+        }
+        quitter.drain();
+
+        for (var webDriver : webDrivers) {
+            verify(webDriver).quit();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverSessionPool;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.WebDriver.TargetLocator;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class WebDriverSessionPoolTests extends BaseUnitTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(1);
+
+    @Test
+    public void testLeaseReusesReleasedSession() {
+        var pool = new WebDriverSessionPool("test", 2, IDLE_TIMEOUT, LEASE_TIMEOUT);
+        var webDriver = createResettableWebDriver("main");
+        var sessionsCreated = new AtomicInteger();
+        var sessionsReused = new AtomicInteger();
+
+        var firstLease = pool.lease(() -> {
+            sessionsCreated.incrementAndGet();
+            return webDriver;
+        }, reused -> sessionsReused.incrementAndGet());
+        pool.release(firstLease);
+        var secondLease = pool.lease(() -> {
+            sessionsCreated.incrementAndGet();
+            return webDriver;
+        }, reused -> sessionsReused.incrementAndGet());
+
+        assertSame(firstLease, secondLease);
+        assertEquals(1, sessionsCreated.get());
+        assertEquals(1, sessionsReused.get());
+        assertEquals(1, pool.getLeasedCount());
+        verify(webDriver, never()).quit();
+    }
+
+    @Test
+    public void testReleaseResetsSession() {
+        var pool = new WebDriverSessionPool("test", 1, IDLE_TIMEOUT, LEASE_TIMEOUT);
+        var webDriver = createResettableWebDriver("main", "popup");
+
+        pool.release(pool.lease(() -> webDriver, reused -> {}));
+
+        verify(webDriver.switchTo()).window("popup");
+        verify(webDriver).close();
+        verify(webDriver.switchTo()).window("main");
+        verify((JavascriptExecutor) webDriver).executeScript(anyString());
+        verify(webDriver.manage()).deleteAllCookies();
+        verify(webDriver).get("about:blank");
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getLeasedCount());
+    }
+
+    @Test
+    public void testReleaseKeepsTheLeasedWindow() {
+        var pool = new WebDriverSessionPool("test", 1, IDLE_TIMEOUT, LEASE_TIMEOUT);
+        var webDriver = createResettableWebDriver("popup", "main");
+        when(webDriver.getWindowHandle()).thenReturn("main");
+
+        pool.release(pool.lease(() -> webDriver, reused -> {}));
+
+        verify(webDriver.switchTo()).window("popup");
+        verify(webDriver).close();
+        verify(webDriver.switchTo()).window("main");
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testReleaseClearsEveryVisitedOrigin() {
+        var pool = new WebDriverSessionPool("test", 1, IDLE_TIMEOUT, LEASE_TIMEOUT);
+        var webDriver = createResettableWebDriver("main");
+        when(webDriver.getCurrentUrl()).thenReturn("https://app.example.com/account?id=1");
+
+        pool.release(pool.lease(() -> webDriver, reused -> {}),
+                Set.of("https://app.example.com", "https://sso.example.com"));
+
+        var inOrder = inOrder(webDriver, webDriver.manage());
+        inOrder.verify(webDriver.manage()).deleteAllCookies();
+        inOrder.verify(webDriver).get("https://sso.example.com/");
+        inOrder.verify(webDriver.manage()).deleteAllCookies();
+        inOrder.verify(webDriver).get("about:blank");
+        verify(webDriver, never()).get("https://app.example.com/");
+        verify((JavascriptExecutor) webDriver, times(2)).executeScript(anyString());
+    }
+
+    @Test
+    public void testLeaseDiscardsUnhealthySession() {
+        var pool = new WebDriverSessionPool("test", 1, IDLE_TIMEOUT, LEASE_TIMEOUT);
+        var deadWebDriver = createResettableWebDriver("main");
+        var newWebDriver = mock(WebDriver.class);
+        var sessions = List.of(deadWebDriver, newWebDriver).iterator();
+
+        pool.release(pool.lease(sessions::next, reused -> {}));
+        when(deadWebDriver.getWindowHandle()).thenThrow(NoSuchSessionException.class);
+
+        assertSame(newWebDriver, pool.lease(sessions::next, reused -> {}));
+        verify(deadWebDriver).quit();
+    }
+
+    @Test
+    public void testLeaseTimesOutWhenPoolIsExhausted() {
+        var pool = new WebDriverSessionPool("test", 1, IDLE_TIMEOUT, Duration.ZERO);
+        pool.lease(() -> mock(WebDriver.class), reused -> {});
+        assertThrows(WebDriverManagerException.class, () -> pool.lease(() -> mock(WebDriver.class), reused -> {}));
+    }
+
+    @Test
+    public void testEvictIdleSessions() {
+        var pool = new WebDriverSessionPool("test", 1, Duration.ZERO, LEASE_TIMEOUT);
+        var webDriver = createResettableWebDriver("main");
+
+        pool.release(pool.lease(() -> webDriver, reused -> {}));
+        pool.evictIdleSessions();
+
+        assertEquals(0, pool.getIdleCount());
+        verify(webDriver).quit();
+    }
+
+    /**
+     * Creates a mock {@link WebDriver} that supports everything the pool does while resetting a session.
+     *
+     * @param windowHandles the open windows, with the first being the current window
+     * @return the mock as {@link WebDriver}
+     */
+    private WebDriver createResettableWebDriver(String... windowHandles) {
+        var webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        var options = mock(Options.class);
+        var targetLocator = mock(TargetLocator.class);
+        lenient().when(webDriver.getWindowHandle()).thenReturn(windowHandles[0]);
+        when(webDriver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of(windowHandles)));
+        when(webDriver.manage()).thenReturn(options);
+        when(webDriver.switchTo()).thenReturn(targetLocator);
+        return webDriver;
+    }
+}
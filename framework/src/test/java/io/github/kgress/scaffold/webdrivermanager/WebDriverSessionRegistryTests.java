@@ -0,0 +1,65 @@
+package io.github.kgress.scaffold.webdrivermanager;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverSessionRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebDriverSessionRegistryTests extends BaseUnitTest {
+
+    @Test
+    public void testReapSessionOfFinishedOwnerThread() throws InterruptedException {
+        var registry = new WebDriverSessionRegistry(Duration.ofHours(1));
+        var testWebDriverManager = newTestWebDriverManager();
+
+        // Track the session from a thread that finishes without closing it, like a failed teardown
+        var owner = new Thread(() -> registry.track(testWebDriverManager,
+                testWebDriverManager.getWebDriverWrapper_fromParent()));
+        owner.start();
+        owner.join();
+
+        assertEquals(1, registry.reapAbandonedSessions());
+        assertNull(testWebDriverManager.getWebDriverWrapper_fromParent());
+        assertEquals(0, registry.getLiveCount());
+        assertEquals(1, registry.getReapedForFinishedOwnerCount());
+        assertEquals(0, registry.getReapedForIdleCount());
+    }
+
+    @Test
+    public void testReapIdleSession() throws InterruptedException {
+        var registry = new WebDriverSessionRegistry(Duration.ofMillis(1));
+        var testWebDriverManager = newTestWebDriverManager();
+        registry.track(testWebDriverManager, testWebDriverManager.getWebDriverWrapper_fromParent());
+
+        Thread.sleep(10);
+
+        assertEquals(1, registry.reapAbandonedSessions());
+        assertNull(testWebDriverManager.getWebDriverWrapper_fromParent());
+        assertEquals(1, registry.getReapedForIdleCount());
+        assertEquals(1, registry.getReapedCount());
+    }
+
+    @Test
+    public void testActiveSessionIsNotReaped() {
+        var registry = new WebDriverSessionRegistry(Duration.ofHours(1));
+        var testWebDriverManager = newTestWebDriverManager();
+        registry.track(testWebDriverManager, testWebDriverManager.getWebDriverWrapper_fromParent());
+
+        assertEquals(0, registry.reapAbandonedSessions());
+        assertNotNull(testWebDriverManager.getWebDriverWrapper_fromParent());
+        assertEquals(1, registry.getLiveCount());
+
+        registry.untrack(testWebDriverManager);
+        assertEquals(0, registry.getLiveCount());
+        assertEquals(0, registry.getReapedCount());
+    }
+
+    private TestWebDriverManager newTestWebDriverManager() {
+        var testWebDriverManager = new TestWebDriverManager(desiredCapabilities, seleniumGridRestTemplate);
+        testWebDriverManager.initDriver_fromParent("Mock Unit Test " + System.nanoTime());
+        return testWebDriverManager;
+    }
+}
@@ -1,19 +1,29 @@
 package io.github.kgress.scaffold.webdriverwrapper;
 
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.ScreenshotRemoteDriver;
 import io.github.kgress.scaffold.SharedTestVariables;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class WebDriverWrapperTests extends BaseUnitTest {
@@ -73,6 +83,22 @@ public class WebDriverWrapperTests extends BaseUnitTest {
         assertEquals(TEST_URL, testWebDriverWrapper.getCurrentUrl());
     }
 
+    @Test
+    public void testVisitedOrigins() {
+        var navigation = mock(WebDriver.Navigation.class);
+        when(mockBaseWebDriver.navigate()).thenReturn(navigation);
+        when(mockBaseWebDriver.getCurrentUrl()).thenReturn("https://sso.someurl.com:8443/login?next=%2F");
+
+        testWebDriverWrapper.get(TEST_URL + "/account");
+        testWebDriverWrapper.navigate().to("http://other.com/page");
+        testWebDriverWrapper.getCurrentUrl();
+        testWebDriverWrapper.get("about:blank");
+
+        verify(navigation).to("http://other.com/page");
+        assertEquals(Set.of(TEST_URL, "http://other.com", "https://sso.someurl.com:8443"),
+                testWebDriverWrapper.getVisitedOrigins());
+    }
+
     @Test
     public void testFindElementDoesntExist() {
         when(mockBaseWebDriver.findElement(any())).thenThrow(TimeoutException.class);
@@ -101,6 +127,37 @@ public class WebDriverWrapperTests extends BaseUnitTest {
         assertEquals(tenSeconds, automationWaitInSeconds);
     }
 
+    @Test
+    public void testSynchronizeWindows_doesNotChangeAutomationWaitTimeout() {
+        var mockTargetLocator = mock(WebDriver.TargetLocator.class);
+        when(mockBaseWebDriver.getWindowHandles()).thenReturn(Set.of("main"));
+        when(mockBaseWebDriver.switchTo()).thenReturn(mockTargetLocator);
+
+        testWebDriverWrapper.synchronizeWindows();
+
+        verify(mockTargetLocator).window("main");
+        assertEquals(1L, testWebDriverWrapper.getAutomationWait().getTimeoutInSeconds());
+    }
+
+    @Test
+    public void testGetLastCommandNanos_countsRemoteCommandsSentAroundTheWrapper() throws Exception {
+        var mockCommandExecutor = mock(CommandExecutor.class);
+        when(mockCommandExecutor.execute(any(Command.class))).thenAnswer(invocation -> {
+            var response = new Response(new SessionId("session"));
+            response.setValue(Map.of("browserName", "chrome"));
+            return response;
+        });
+        var remoteWebDriver = new ScreenshotRemoteDriver(mockCommandExecutor, new DesiredCapabilities());
+        var remoteWebDriverWrapper = new TestWebDriverWrapper(remoteWebDriver, 1L);
+        var lastCommandNanos = remoteWebDriverWrapper.getLastCommandNanos();
+
+        // Like a raw WebElement the test kept, the command doesn't go through the wrapper
+        Thread.sleep(5);
+        remoteWebDriver.manage().deleteAllCookies();
+
+        assertTrue(remoteWebDriverWrapper.getLastCommandNanos() - lastCommandNanos > 0);
+    }
+
     protected TestWebDriverWrapper createTestWebDriverWrapper() {
         return new TestWebDriverWrapper(mockBaseWebDriver, 1L);
     }
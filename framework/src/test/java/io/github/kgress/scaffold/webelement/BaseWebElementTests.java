@@ -4,17 +4,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.MockBaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.WebDriverWrapper;
 import io.github.kgress.scaffold.util.AutomationUtils;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -164,6 +174,64 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertEquals(expectedTestCssValue, elementByCssSelector.getCssValue(testCssProperty));
     }
 
+    @Test
+    public void testSnapshot_byCss() {
+        var scriptResult = createSnapshotResult(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(),
+                eq(Map.of("using", "css selector", "value", SharedTestVariables.CSS_SELECTOR1)),
+                eq(List.of("type")), eq(List.of("color")))).thenReturn(scriptResult);
+
+        var snapshot = elementByCssSelector.snapshot(List.of("type"), List.of("color"));
+        assertEquals(SharedTestVariables.TEXT_1, snapshot.getText());
+        assertEquals("button", snapshot.getTagName());
+        assertEquals("submit", snapshot.getAttribute("type"));
+        assertEquals("rgb(0, 0, 0)", snapshot.getCssValue("color"));
+        assertEquals(new Rectangle(10, 20, 40, 30), snapshot.getRect());
+        assertTrue(snapshot.isDisplayed());
+        assertFalse(snapshot.isEnabled());
+        assertFalse(snapshot.isSelected());
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+    }
+
+    @Test
+    public void testSnapshot_hiddenElementIsNotDisplayedWithoutWaiting() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any(Map.class), eq(List.of()), eq(List.of())))
+                .thenReturn(createSnapshotResult(false));
+
+        assertFalse(elementByCssSelector.snapshot().isDisplayed());
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+        verify(mockWebDriverWrapper, never()).findElement(any(By.class));
+    }
+
+    @Test
+    public void testSnapshot_byLinkTextFindsRawElement() {
+        var elementByLinkText = new TestBaseWebElement(By.linkText(SharedTestVariables.TEXT_1));
+        setBaseWhen(elementByLinkText);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement), eq(List.of()), eq(List.of())))
+                .thenReturn(createSnapshotResult(true));
+
+        assertTrue(elementByLinkText.snapshot().isDisplayed());
+    }
+
+    private Map<String, Object> createSnapshotResult(boolean displayed) {
+        var scriptResult = new HashMap<String, Object>();
+        scriptResult.put("text", displayed ? SharedTestVariables.TEXT_1 : "");
+        scriptResult.put("tagName", "button");
+        scriptResult.put("attributes", Map.of("type", "submit"));
+        scriptResult.put("cssValues", Map.of("color", "rgb(0, 0, 0)"));
+        scriptResult.put("x", 10L);
+        scriptResult.put("y", 20L);
+        scriptResult.put("width", 30L);
+        scriptResult.put("height", 40.0);
+        scriptResult.put("displayed", displayed);
+        scriptResult.put("enabled", false);
+        scriptResult.put("selected", false);
+        return scriptResult;
+    }
+
     @Test
     public void testGetRawWebElement_byCss_success() {
         setBaseWhen(elementByCssSelector);
@@ -452,21 +520,14 @@ public class BaseWebElementTests extends BaseUnitTest {
         final By parentBySelector = By.cssSelector("div.reservation-container");
         final By rootChildBySelector = By.cssSelector("div.reservation-card-container");
         final WebElement reservationCard_A = mock(WebElement.class);
-        // this mock webelement instance is necessary to distinguish from reservationCard, since the
-        // findElements method does an Object.equals to see if the instance is in the filtered list
-        // of requested items.
-        final WebElement rogueDiv = mock(WebElement.class);
         final WebElement webElement = mock(WebElement.class);
-        when(reservationCard_A.getTagName()).thenReturn("div");
-        when(reservationCard_A.findElement(any(By.ByXPath.class))).thenReturn(webElement);
-        // order here is important, to validate that rogueDiv causes the index of the desired elements
-        // to be nonsequential
-        when(webElement.findElements(any(By.ByTagName.class))).thenReturn(
-            List.of(reservationCard_A, rogueDiv, reservationCard_A, reservationCard_A)
-        );
-        when(webElement.findElements(rootChildBySelector)).thenReturn(
-            List.of(reservationCard_A, reservationCard_A, reservationCard_A)
-        );
+        final var reservationCards_raw = List.of(reservationCard_A, reservationCard_A, reservationCard_A);
+        when(webElement.findElements(rootChildBySelector)).thenReturn(reservationCards_raw);
+        // the sibling indexes are computed in the browser. A rogue div at index 1 causes the index of
+        // the desired elements to be nonsequential
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(reservationCards_raw)))
+            .thenReturn(List.of(0L, 2L, 3L));
         TestBaseWebElement parentElement = new TestBaseWebElement(parentBySelector);
         when(parentElement.getRawWebElement()).thenReturn(webElement);
         assertThat(parentElement).isNotNull();
@@ -519,4 +580,21 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertThat(reservationCards).isNotNull();
         assertThat(reservationCards).isEmpty();
     }
+
+    @Test
+    public void testBaseWebElement_webElementWaitIsCreatedWhenFirstNeeded() {
+        var wrapperLookups = new AtomicInteger();
+        var element = new BaseWebElement(SharedTestVariables.CSS_SELECTOR1) {
+            @Override
+            protected WebDriverWrapper getWebDriverWrapper() {
+                wrapperLookups.incrementAndGet();
+                return mockWebDriverWrapper;
+            }
+        };
+        assertEquals(0, wrapperLookups.get());
+
+        var webElementWait = element.getWebElementWait();
+        assertSame(webElementWait, element.getWebElementWait());
+        assertSame(mockWebDriverWrapper, webElementWait.getWebDriverWrapper());
+    }
 }
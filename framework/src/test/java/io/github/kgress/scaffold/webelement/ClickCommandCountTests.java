@@ -0,0 +1,192 @@
+package io.github.kgress.scaffold.webelement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.models.enums.desktop.ClickSettleStrategy;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Counts the calls a click makes on the mocks that reach the browser, with and without fast click. Getters on the
+ * wrapper, like the javascript executor or the settle strategy, don't reach the browser and aren't counted.
+ * <p>
+ * These are calls on mocks, not wire-level commands. A wait like waitUntilDisplayed is counted once, but against a
+ * real browser it polls, or runs as a single async script, and a findElement through the wrapper may send more than
+ * one command. The counts compare the two click paths, not the exact number of requests a remote session sees.
+ */
+@Slf4j
+public class ClickCommandCountTests extends BaseUnitTest {
+
+    private static final Set<String> BROWSER_COMMANDS = Set.of("executeScript", "executeAsyncScript",
+            "findElement", "click", "waitUntilDisplayed", "waitUntilPageIsLoaded", "waitForNetworkIdle",
+            "instrumentNetwork");
+
+    private final By expectedBy = By.cssSelector(SharedTestVariables.CSS_SELECTOR1);
+
+    @Test
+    public void testClickCommandCount_regularClick() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        setWhenScrollIntoViewSucceed();
+
+        element.click();
+
+        verify(mockRawWebElement, times(1)).click();
+        var commandCount = countBrowserCommands();
+        log.info(String.format("Regular click sent %s commands", commandCount));
+        assertEquals(6, commandCount);
+    }
+
+    @Test
+    public void testClickCommandCount_fastClick() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), anyBoolean())).thenReturn("clicked");
+
+        element.click();
+
+        verify(mockWebDriverWrapper, times(1)).invalidateElementHandles();
+        verify(mockWebDriverWrapper, never()).findElement(expectedBy);
+        var commandCount = countBrowserCommands();
+        log.info(String.format("Fast click sent %s commands", commandCount));
+        assertEquals(2, commandCount);
+    }
+
+    @Test
+    public void testClickCommandCount_fastClickWithoutSettling() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getClickSettleStrategy()).thenReturn(ClickSettleStrategy.NONE);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), anyBoolean())).thenReturn("clicked");
+
+        element.click();
+
+        verify(mockWebElementWait, never()).waitUntilPageIsLoaded();
+        assertEquals(1, countBrowserCommands());
+    }
+
+    @Test
+    public void testFastClick_retriesInterceptedClickOnce() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), anyBoolean()))
+                .thenReturn("intercepted", "clicked");
+
+        var start = System.nanoTime();
+        element.click();
+
+        // The second attempt waits for the overlay to get out of the way instead of running right away
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        verify(mockJavascriptExecutor, times(2)).executeScript(anyString(), anyMap(), anyBoolean());
+        verify(mockWebElementWait, times(1)).waitUntilPageIsLoaded();
+    }
+
+    @Test
+    public void testFastClick_throwsWhenInterceptedTwice() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), anyBoolean())).thenReturn("intercepted");
+
+        assertThrows(ElementClickInterceptedException.class, element::click);
+        verify(mockWebDriverWrapper, never()).invalidateElementHandles();
+    }
+
+    @Test
+    public void testFastClick_fallsBackWhenNotDisplayed() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), anyBoolean())).thenReturn("not displayed");
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when((WebElement) mockJavascriptExecutor
+                .executeScript(SharedTestVariables.SCROLL_INTO_VIEW_SCRIPT, mockRawWebElement))
+                .thenReturn(mockRawWebElement);
+
+        element.click();
+
+        verify(mockWebElementWait, times(1)).waitUntilDisplayed();
+        verify(mockRawWebElement, times(1)).click();
+    }
+
+    @Test
+    public void testFastClick_waitsForNetworkIdleWhenSetOnElement() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        element.setClickSettleStrategy(ClickSettleStrategy.NETWORK_IDLE);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), eq(true))).thenReturn("clicked");
+
+        element.click();
+
+        verify(mockWebElementWait, times(1)).waitForNetworkIdle();
+        verify(mockWebElementWait, never()).waitUntilPageIsLoaded();
+        assertEquals(2, countBrowserCommands());
+    }
+
+    @Test
+    public void testRegularClick_instrumentsNetworkBeforeClicking() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.getClickSettleStrategy()).thenReturn(ClickSettleStrategy.NETWORK_IDLE);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        setWhenScrollIntoViewSucceed();
+
+        element.click();
+
+        var inOrder = inOrder(mockWebElementWait, mockRawWebElement);
+        inOrder.verify(mockWebElementWait).instrumentNetwork();
+        inOrder.verify(mockRawWebElement).click();
+        inOrder.verify(mockWebElementWait).waitForNetworkIdle();
+    }
+
+    @Test
+    public void testNetworkIdleSettle_waitsForNewPageWhenClickNavigates() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        element.setClickSettleStrategy(ClickSettleStrategy.NETWORK_IDLE);
+        when(mockWebDriverWrapper.isFastClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap(), eq(true))).thenReturn("clicked");
+        doThrow(new JavascriptException("javascript error: document unloaded while waiting for result"))
+                .doReturn(true)
+                .when(mockWebElementWait).waitForNetworkIdle();
+
+        element.click();
+
+        var inOrder = inOrder(mockWebElementWait);
+        inOrder.verify(mockWebElementWait).waitForNetworkIdle();
+        inOrder.verify(mockWebElementWait).waitUntilPageIsLoaded();
+        inOrder.verify(mockWebElementWait).instrumentNetwork();
+        inOrder.verify(mockWebElementWait).waitForNetworkIdle();
+    }
+
+    private long countBrowserCommands() {
+        return Set.of(mockWebDriverWrapper, mockJavascriptExecutor, mockRawWebElement, mockWebElementWait).stream()
+                .flatMap(mock -> mockingDetails(mock).getInvocations().stream())
+                .filter(invocation -> BROWSER_COMMANDS.contains(invocation.getMethod().getName()))
+                .count();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.kgress.scaffold.webelement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+
+public class ElementHandleCacheTests extends BaseUnitTest {
+
+    private final TestBaseWebElement element = new TestBaseWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private final By expectedBy = By.cssSelector(SharedTestVariables.CSS_SELECTOR1);
+
+    @Test
+    public void testCachedElementIsReused() {
+        when(mockWebDriverWrapper.isElementHandleCacheEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+        when(mockRawWebElement.getAttribute("class")).thenReturn("active");
+
+        assertEquals(SharedTestVariables.TEXT_1, element.getText());
+        assertEquals("active", element.getAttribute("class"));
+        verify(mockWebDriverWrapper, times(1)).findElement(expectedBy);
+        verify(mockWebElementWait, times(1)).waitUntilDisplayed();
+    }
+
+    @Test
+    public void testCachedElementIsFoundAgainInNewDomGeneration() {
+        when(mockWebDriverWrapper.isElementHandleCacheEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getDomGeneration()).thenReturn(0L, 1L);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+
+        element.getText();
+        element.getText();
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+
+    @Test
+    public void testStaleCachedElementIsFoundAgain() {
+        when(mockWebDriverWrapper.isElementHandleCacheEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText())
+                .thenThrow(new StaleElementReferenceException("Element is no longer attached to the DOM"))
+                .thenReturn(SharedTestVariables.TEXT_1);
+
+        assertEquals(SharedTestVariables.TEXT_1, element.getText());
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+
+    @Test
+    public void testElementIsFoundEveryTimeWhenCacheIsDisabled() {
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+
+        element.getText();
+        element.getText();
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.kgress.scaffold.webelement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.kgress.scaffold.Locator;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+public class LocatorTests {
+
+    @Test
+    public void testLocatorParsesBy() {
+        var by = By.id("login");
+        var locator = Locator.of(by);
+
+        assertEquals(Locator.Strategy.ID, locator.getStrategy());
+        assertEquals("login", locator.getSelector());
+        assertSame(by, locator.toBy());
+        assertFalse(locator.isXPath());
+        assertTrue(Locator.of(By.xpath("//div")).isXPath());
+    }
+
+    @Test
+    public void testLocatorConvertsToCss() {
+        assertEquals(By.cssSelector("#login"), Locator.of(By.id("login")).toCss().toBy());
+        assertEquals(By.cssSelector(".button"), Locator.of(By.className("button")).toCss().toBy());
+        assertEquals(By.cssSelector("[name=email]"), Locator.of(By.name("email")).toCss().toBy());
+        assertEquals(By.cssSelector("div"), Locator.of(By.tagName("div")).toCss().toBy());
+        assertThrows(RuntimeException.class, () -> Locator.xpath("//div").toCss());
+    }
+
+    @Test
+    public void testDescendantCombinesAndInternsLocators() {
+        var parent = Locator.of(By.id("header"));
+        var child = Locator.css("a.login");
+
+        var combined = parent.descendant(child);
+
+        assertEquals(By.cssSelector("#header a.login"), combined.toBy());
+        assertSame(combined, Locator.of(By.id("header")).descendant(Locator.css("a.login")));
+        assertEquals(Locator.xpath("//div //a"), Locator.xpath("//div").descendant(Locator.xpath("//a")));
+    }
+
+    @Test
+    public void testDescendantWithMixedXPathThrows() {
+        assertThrows(RuntimeException.class,
+                () -> Locator.css("#header").descendant(Locator.xpath("//a")));
+        assertThrows(RuntimeException.class,
+                () -> Locator.xpath("//div").descendant(Locator.css("a")));
+    }
+
+    @Test
+    public void testNthIndexesLocator() {
+        assertEquals(By.cssSelector("#list li:nth-child(3)"), Locator.css("#list li").nth(2).toBy());
+        assertEquals(By.xpath("//li[1]"), Locator.xpath("//li").nth(0).toBy());
+    }
+}
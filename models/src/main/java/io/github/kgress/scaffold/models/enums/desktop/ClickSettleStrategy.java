@@ -0,0 +1,19 @@
+package io.github.kgress.scaffold.models.enums.desktop;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A simple enum to differentiate how Scaffold waits for the page to settle after clicking on an
+ * element.
+ */
+@Getter
+@AllArgsConstructor
+public enum ClickSettleStrategy {
+  PAGE_LOAD("Wait until the document ready state is complete"),
+  ANIMATION_FRAME("Wait until the browser has rendered the next frame"),
+  NETWORK_IDLE("Wait until the page has no requests or short timers pending for a quiet period"),
+  NONE("Do not wait");
+
+  private final String description;
+}
@@ -16,7 +16,8 @@ public enum RunType {
   AWS_LAMBDA_REMOTE("AWS Lambda Remote"),
   SAUCE("SauceLabs"),
   SAUCE_MOBILE_EMULATOR("SauceLabs Mobile Emulator"),
-  HEADLESS("Headless");
+  HEADLESS("Headless"),
+  CUSTOM("Custom");
 
   private final String runType;
 }